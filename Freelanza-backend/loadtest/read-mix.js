@@ -0,0 +1,52 @@
+// k6 load test used to compare platform-thread and virtual-thread request handling.
+//
+//   mvn spring-boot:run                                                    # platform threads
+//   mvn spring-boot:run -Dspring-boot.run.profiles=virtual-threads         # virtual threads
+//   k6 run -e BASE_URL=http://localhost:8080 -e CLIENT_ID=1 -e FREELANCER_ID=1 loadtest/read-mix.js
+//
+// Run each mode against the same database snapshot and compare http_reqs/s, the p(99) of
+// http_req_duration and the share of 503s (requests shed by the concurrency limit).
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const CLIENT_ID = __ENV.CLIENT_ID || '1';
+const FREELANCER_ID = __ENV.FREELANCER_ID || '1';
+const TERMS = ['react', 'java developer', 'logo design', 'data entry', 'android app'];
+
+export const options = {
+    scenarios: {
+        ramp: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 100 },
+                { duration: '1m', target: 400 },
+                { duration: '1m', target: 1000 },
+                { duration: '30s', target: 0 },
+            ],
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        'http_req_duration{expected_response:true}': ['p(99)<2000'],
+    },
+};
+
+export default function () {
+    const pick = Math.random();
+    let res;
+    if (pick < 0.4) {
+        res = http.get(`${BASE_URL}/api/jobs/feed?size=20`, { tags: { name: 'feed' } });
+    } else if (pick < 0.7) {
+        const q = encodeURIComponent(TERMS[Math.floor(Math.random() * TERMS.length)]);
+        res = http.get(`${BASE_URL}/api/jobs/search?q=${q}`, { tags: { name: 'search' } });
+    } else if (pick < 0.85) {
+        res = http.get(`${BASE_URL}/api/clients/${CLIENT_ID}/dashboard`, { tags: { name: 'dashboard' } });
+    } else {
+        res = http.get(`${BASE_URL}/api/freelancers/${FREELANCER_ID}/recommended-jobs`, { tags: { name: 'recommended' } });
+    }
+    check(res, {
+        'ok or shed': (r) => r.status === 200 || r.status === 503,
+    });
+}
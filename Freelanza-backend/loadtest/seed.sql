@@ -0,0 +1,54 @@
+-- Load-test dataset: 2,000 clients with 10 jobs each, 10,000 freelancers and 5 proposals per job.
+-- Run against an empty database the application has already migrated (start it once, then stop it):
+--   psql -h localhost -U postgres -d freelanza -f loadtest/seed.sql
+-- Job titles reuse the search terms of read-mix.js so /api/jobs/search has matches.
+
+INSERT INTO skill (skill_id, name)
+SELECT g, (ARRAY['Java', 'React', 'Design', 'Android', 'SQL', 'Python', 'Writing', 'DevOps'])[g]
+FROM generate_series(1, 8) g;
+
+INSERT INTO client (client_id, name, email, location, ratings, member_since,
+                    total_jobs, active_jobs, pending_proposals, accepted_proposals, version, updated_at)
+SELECT g, 'Client ' || g, 'client' || g || '@example.com', 'City ' || (g % 50), 1 + g % 5,
+       current_date - (g % 1000), 10, 5, 25, 0, 0, now()
+FROM generate_series(1, 2000) g;
+
+INSERT INTO freelancer (freelancer_id, name, email, location, hourly_rate, bio, version, updated_at)
+SELECT g, 'Freelancer ' || g, 'freelancer' || g || '@example.com', 'City ' || (g % 50),
+       10 + g % 90, 'Experienced developer', 0, now()
+FROM generate_series(1, 10000) g;
+
+INSERT INTO freelancer_skill (freelancer_id, skill_id)
+SELECT f, 1 + (f + k) % 8 FROM generate_series(1, 10000) f, generate_series(0, 2) k;
+
+INSERT INTO job (job_id, client_id, job_title, category, description, min_budget, max_budget,
+                 budget, posted_date, start_date, deadline, status, version, updated_at)
+SELECT g, 1 + (g - 1) / 10,
+       (ARRAY['React dashboard', 'Java developer for an API', 'Logo design', 'Data entry', 'Android app'])[1 + g % 5]
+           || ' #' || g,
+       'Category ' || (g % 12), 'Project description text', 20 + g % 60, 80 + g % 120, 50 + g % 100,
+       current_date - (g % 60), current_date + 7, current_date + 30 + g % 60,
+       CASE WHEN g % 2 = 0 THEN 'ACTIVE' ELSE 'COMPLETED' END, 0, now()
+FROM generate_series(1, 20000) g;
+
+INSERT INTO job_skill (job_id, skill_id)
+SELECT j, 1 + (j + k) % 8 FROM generate_series(1, 20000) j, generate_series(0, 1) k;
+
+-- Freelancers for one job are consecutive, so (job_id, freelancer_id) stays unique
+INSERT INTO proposal (proposal_id, job_id, freelancer_id, cover_letter, bid_amount,
+                      application_date, delivery_days, status, version)
+SELECT g, 1 + (g - 1) / 5, 1 + (g - 1) % 10000, 'Cover letter ' || g, 200 + g % 3000,
+       current_date - (g % 60), 5 + g % 40, 'PENDING', 0
+FROM generate_series(1, 100000) g;
+
+-- Move every id sequence past the seeded rows, the way R__id_sequence_increments does, so ids
+-- handed out to the application (registrations, new proposals) do not collide with them
+SELECT setval(s.seq::regclass, s.max_id + q.increment_by, false)
+FROM (VALUES ('client_seq', (SELECT max(client_id) FROM client)),
+             ('freelancer_seq', (SELECT max(freelancer_id) FROM freelancer)),
+             ('job_seq', (SELECT max(job_id) FROM job)),
+             ('proposal_seq', (SELECT max(proposal_id) FROM proposal)),
+             ('skill_seq', (SELECT max(skill_id) FROM skill))) AS s (seq, max_id)
+JOIN pg_sequences q ON q.sequencename = s.seq;
+
+ANALYZE;
@@ -0,0 +1,84 @@
+// k6 load test for the write paths: logins (BCrypt), proposal applications and their retries.
+//
+//   mvn spring-boot:run -Dspring-boot.run.arguments=--freelanza.rate-limit.enabled=false
+//   k6 run -e BASE_URL=http://localhost:8080 -e USERNAME=freelancer1@example.com -e PASSWORD=secret \
+//          -e JOB_IDS=1-500 -e FREELANCER_IDS=1-200 --summary-export=target/k6-write-mix.json loadtest/write-mix.js
+//
+// Rate limiting is switched off above to measure raw throughput; leave it on to check that abusive
+// traffic is answered with 429 instead. The summary export is JSON, so runs can be compared like the
+// JMH results in target/jmh-result.json.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const USERNAME = __ENV.USERNAME || 'freelancer1@example.com';
+const PASSWORD = __ENV.PASSWORD || 'secret';
+const JOB_IDS = range(__ENV.JOB_IDS || '1-100');
+const FREELANCER_IDS = range(__ENV.FREELANCER_IDS || '1-100');
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+export const options = {
+    scenarios: {
+        logins: {
+            executor: 'constant-arrival-rate',
+            exec: 'login',
+            rate: 50,
+            timeUnit: '1s',
+            duration: '2m',
+            preAllocatedVUs: 100,
+        },
+        applications: {
+            executor: 'ramping-vus',
+            exec: 'apply',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 50 },
+                { duration: '1m', target: 200 },
+                { duration: '30s', target: 0 },
+            ],
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        'http_req_duration{name:token}': ['p(95)<1000'],
+        'http_req_duration{name:apply}': ['p(95)<500'],
+    },
+};
+
+export function login() {
+    const res = http.post(`${BASE_URL}/api/auth/token`, JSON.stringify({ username: USERNAME, password: PASSWORD }),
+        { headers: JSON_HEADERS, tags: { name: 'token' } });
+    check(res, {
+        'token ok, busy or throttled': (r) => r.status === 200 || r.status === 503 || r.status === 429,
+    });
+}
+
+// Every application is sent twice with the same Idempotency-Key, like a double-click
+export function apply() {
+    const jobId = pick(JOB_IDS);
+    const freelancerId = pick(FREELANCER_IDS);
+    const body = JSON.stringify({ coverLetter: 'Load test proposal', bidAmount: 500, deliveryDays: 10 });
+    const params = {
+        headers: Object.assign({ 'Idempotency-Key': `${__VU}-${__ITER}` }, JSON_HEADERS),
+        tags: { name: 'apply' },
+    };
+    const first = http.post(`${BASE_URL}/api/proposals/apply/${jobId}/${freelancerId}`, body, params);
+    const retry = http.post(`${BASE_URL}/api/proposals/apply/${jobId}/${freelancerId}`, body, params);
+    check(first, {
+        // 409 when this freelancer already applied to the job in an earlier iteration
+        'apply accepted, duplicate or throttled': (r) => r.status === 200 || r.status === 409 || r.status === 429,
+    });
+    check(retry, {
+        'retry returns the same proposal': (r) => r.status !== 200 || first.status !== 200
+            || r.json('proposalId') === first.json('proposalId'),
+    });
+}
+
+function range(spec) {
+    const [from, to] = spec.split('-').map(Number);
+    return { from, to: to || from };
+}
+
+function pick({ from, to }) {
+    return from + Math.floor(Math.random() * (to - from + 1));
+}
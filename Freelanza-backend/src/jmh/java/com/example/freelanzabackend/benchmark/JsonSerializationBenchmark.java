@@ -0,0 +1,138 @@
+package com.example.freelanzabackend.benchmark;
+
+import com.example.freelanzabackend.Dto.JobDetail;
+import com.example.freelanzabackend.Dto.JobListItem;
+import com.example.freelanzabackend.Dto.ProposalView;
+import com.example.freelanzabackend.model.Client;
+import com.example.freelanzabackend.model.Freelancer;
+import com.example.freelanzabackend.model.Job;
+import com.example.freelanzabackend.model.JobStatus;
+import com.example.freelanzabackend.model.Proposal;
+import com.example.freelanzabackend.model.ProposalStatus;
+import com.example.freelanzabackend.model.Skill;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// Response mapping and serialization for job and proposal graphs, with the ObjectMapper configured the
+// way Spring Boot configures it. Entities are mapped to the DTOs the controllers return, so each
+// benchmark covers what one response costs after the database read.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"20", "200"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Job job;
+    private List<JobListItem> jobPage;
+    private List<Proposal> proposals;
+    private String proposalRequest;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        Client client = new Client();
+        client.setClientId(7);
+        client.setName("Acme Studio");
+        client.setLocation("Colombo, Sri Lanka");
+        client.setRatings(4);
+
+        job = job(1, client);
+        jobPage = new ArrayList<>(pageSize);
+        proposals = new ArrayList<>(pageSize);
+        for (int i = 1; i <= pageSize; i++) {
+            Job pageJob = job(i, client);
+            JobListItem item = new JobListItem(pageJob.getJobId(), pageJob.getJobTitle(), pageJob.getCategory(),
+                    pageJob.getDescription(), pageJob.getMinBudget(), pageJob.getMaxBudget(), pageJob.getBudget(),
+                    pageJob.getPostedDate(), pageJob.getDeadline(), pageJob.getStatus(),
+                    client.getClientId(), client.getName(), client.getLocation(), client.getRatings());
+            item.setSkills(List.of("Java", "Spring Boot", "PostgreSQL"));
+            jobPage.add(item);
+            proposals.add(proposal(i, pageJob));
+        }
+        proposalRequest = objectMapper.writeValueAsString(ProposalView.from(proposals.get(0)));
+    }
+
+    @Benchmark
+    public byte[] jobDetail() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(JobDetail.from(job));
+    }
+
+    @Benchmark
+    public byte[] jobListPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(jobPage);
+    }
+
+    @Benchmark
+    public byte[] proposalPage() throws JsonProcessingException {
+        List<ProposalView> views = new ArrayList<>(proposals.size());
+        for (Proposal proposal : proposals) {
+            views.add(ProposalView.from(proposal));
+        }
+        return objectMapper.writeValueAsBytes(views);
+    }
+
+    // Request body of POST /api/proposals/apply
+    @Benchmark
+    public Proposal readProposalRequest() throws JsonProcessingException {
+        return objectMapper.readValue(proposalRequest, Proposal.class);
+    }
+
+    private static Job job(int id, Client client) {
+        Job job = new Job();
+        job.setJobId(id);
+        job.setJobTitle("Build a booking dashboard #" + id);
+        job.setCategory("Web Development");
+        job.setDescription("React front end and a Spring Boot API for managing bookings, payments and reports. "
+                + "Includes role-based access, CSV export and a PostgreSQL schema with migrations.");
+        job.setMinBudget(500);
+        job.setMaxBudget(1500);
+        job.setBudget(1000);
+        job.setPostedDate(LocalDate.of(2025, 3, 1));
+        job.setStartDate(LocalDate.of(2025, 3, 10));
+        job.setDeadline(LocalDate.of(2025, 6, 30));
+        job.setStatus(JobStatus.ACTIVE);
+        job.setClient(client);
+        Set<Skill> skills = new LinkedHashSet<>();
+        skills.add(new Skill("Java"));
+        skills.add(new Skill("Spring Boot"));
+        skills.add(new Skill("PostgreSQL"));
+        job.setSkills(skills);
+        return job;
+    }
+
+    private static Proposal proposal(int id, Job job) {
+        Freelancer freelancer = new Freelancer();
+        freelancer.setFreelancerId(id);
+        freelancer.setName("Freelancer " + id);
+        freelancer.setEmail("freelancer" + id + "@example.com");
+        freelancer.setLocation("Kandy, Sri Lanka");
+        freelancer.setHourlyRate(25f);
+
+        Proposal proposal = new Proposal();
+        proposal.setProposalId(id);
+        proposal.setJob(job);
+        proposal.setFreelancer(freelancer);
+        proposal.setCoverLetter("I have built three similar dashboards and can start next week.");
+        proposal.setBidAmount(1200);
+        proposal.setDeliveryDays(21);
+        proposal.setApplicationDate(LocalDate.of(2025, 3, 2));
+        proposal.setStatus(ProposalStatus.PENDING);
+        return proposal;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.freelanzabackend.benchmark;
+
+import com.example.freelanzabackend.Service.JwtService;
+import com.example.freelanzabackend.model.UserCredential;
+import com.example.freelanzabackend.model.UserRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Token issue and verification. parseClaimsCached is the steady state of JwtAuthenticationFilter;
+// parseUncached is the signature check the claims cache saves on a first request.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private JwtParser parser;
+    private UserCredential user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService();
+        parser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(JwtService.SECRET)))
+                .build();
+        user = new UserCredential();
+        user.setId(42);
+        user.setUsername("freelancer42@example.com");
+        user.setUserRole(UserRole.FREELANCER);
+        token = jwtService.generateToken(user, 42);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user, 42);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtService.validateToken(token);
+    }
+
+    @Benchmark
+    public Claims parseClaimsCached() {
+        return jwtService.parseClaims(token);
+    }
+
+    @Benchmark
+    public Claims parseUncached() {
+        return parser.parseClaimsJws(token).getBody();
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.freelanzabackend.benchmark;
+
+import com.example.freelanzabackend.Dto.JobListItem;
+import com.example.freelanzabackend.FreelanzaBackendApplication;
+import com.example.freelanzabackend.Repository.JobRepository;
+import com.example.freelanzabackend.Repository.PropsalRepository;
+import com.example.freelanzabackend.model.Job;
+import com.example.freelanzabackend.model.Proposal;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Repository hot paths against an embedded PostgreSQL (real server binaries, no Docker) seeded with
+// a realistic volume of rows. The whole application context starts without the web layer, so the
+// entity mappings, second-level cache and Flyway migrations are the production ones.
+// Volumes can be changed with -Dbench.clients, -Dbench.jobsPerClient and -Dbench.proposalsPerJob.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    private static final int CLIENTS = Integer.getInteger("bench.clients", 500);
+    private static final int JOBS_PER_CLIENT = Integer.getInteger("bench.jobsPerClient", 20);
+    private static final int PROPOSALS_PER_JOB = Integer.getInteger("bench.proposalsPerJob", 5);
+    private static final int FREELANCERS = Integer.getInteger("bench.freelancers", 2000);
+
+    private EmbeddedPostgres postgres;
+    private ConfigurableApplicationContext context;
+    private JobRepository jobRepository;
+    private PropsalRepository proposalRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        context = new SpringApplicationBuilder(FreelanzaBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                        "spring.datasource.username=postgres",
+                        "spring.datasource.password=",
+                        "spring.jpa.show-sql=false",
+                        // Keep background jobs from competing with the measured queries
+                        "freelanza.jobs.expiry.initial-delay-ms=86400000",
+                        "freelanza.dashboard.reconcile-initial-delay-ms=86400000",
+                        "freelanza.registration.outbox.poll-interval-ms=86400000")
+                .run();
+        seed(context.getBean(JdbcTemplate.class));
+        jobRepository = context.getBean(JobRepository.class);
+        proposalRepository = context.getBean(PropsalRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (context != null) {
+            context.close();
+        }
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    // GET /api/jobs before it moved to the JobListItem projection
+    @Benchmark
+    public List<Job> findAll() {
+        return jobRepository.findAll();
+    }
+
+    // GET /api/jobs today, for comparison with findAll
+    @Benchmark
+    public List<JobListItem> findListItems() {
+        return jobRepository.findListItems();
+    }
+
+    @Benchmark
+    public List<Proposal> findProposalsByClient() {
+        return proposalRepository.findByJob_Client_ClientId(randomClient());
+    }
+
+    @Benchmark
+    public Integer countActiveJobsByClientId() {
+        return jobRepository.countActiveJobsByClientId(randomClient());
+    }
+
+    private static int randomClient() {
+        return ThreadLocalRandom.current().nextInt(1, CLIENTS + 1);
+    }
+
+    // Ids are assigned explicitly; the benchmarks only read, so the id sequences are left alone
+    private static void seed(JdbcTemplate jdbc) {
+        int jobs = CLIENTS * JOBS_PER_CLIENT;
+        jdbc.update("""
+                INSERT INTO client (client_id, name, email, location, ratings, member_since,
+                                    total_jobs, active_jobs, pending_proposals, accepted_proposals, version)
+                SELECT g, 'Client ' || g, 'client' || g || '@example.com', 'City ' || (g % 50), 1 + g % 5,
+                       current_date - (g % 1000), ?, ?, 0, 0, 0
+                FROM generate_series(1, ?) g
+                """, JOBS_PER_CLIENT, JOBS_PER_CLIENT / 2, CLIENTS);
+        jdbc.update("""
+                INSERT INTO freelancer (freelancer_id, name, email, location, hourly_rate, bio, version)
+                SELECT g, 'Freelancer ' || g, 'freelancer' || g || '@example.com', 'City ' || (g % 50),
+                       10 + g % 90, 'Experienced developer', 0
+                FROM generate_series(1, ?) g
+                """, FREELANCERS);
+        jdbc.update("""
+                INSERT INTO job (job_id, client_id, job_title, category, description, min_budget, max_budget,
+                                 budget, posted_date, start_date, deadline, status, version)
+                SELECT g, 1 + (g - 1) / ?, 'Job ' || g, 'Category ' || (g % 12),
+                       repeat('Project description text. ', 20), 100 + g % 900, 1000 + g % 4000,
+                       550 + g % 2450, current_date - (g % 365), current_date + 7, current_date + 30 + g % 60,
+                       CASE WHEN g % 2 = 0 THEN 'ACTIVE' ELSE 'COMPLETED' END, 0
+                FROM generate_series(1, ?) g
+                """, JOBS_PER_CLIENT, jobs);
+        // Freelancers for one job are consecutive, so (job_id, freelancer_id) stays unique
+        jdbc.update("""
+                INSERT INTO proposal (proposal_id, job_id, freelancer_id, cover_letter, bid_amount,
+                                      application_date, delivery_days, status, version)
+                SELECT g, 1 + (g - 1) / ?, 1 + (g - 1) % ?, 'Cover letter ' || g, 200 + g % 3000,
+                       current_date - (g % 300), 5 + g % 40, 'PENDING', 0
+                FROM generate_series(1, ?) g
+                """, PROPOSALS_PER_JOB, FREELANCERS, jobs * PROPOSALS_PER_JOB);
+        jdbc.execute("ANALYZE");
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.freelanzabackend.Config;
 
+import com.example.freelanzabackend.Service.JwtService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -11,10 +13,10 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.authentication.logout.LogoutHandler;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -26,18 +28,27 @@ import java.util.List;
 @EnableWebSecurity
 public class AuthConfig {
 
+    @Value("${freelanza.security.bcrypt.strength:10}")
+    private int bcryptStrength;
+    // When positive, the strength is picked at startup as the highest one hashing within this many ms
+    @Value("${freelanza.security.bcrypt.target-millis:0}")
+    private long bcryptTargetMillis;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int strength = bcryptTargetMillis > 0 ? BCryptCostCalibrator.calibrate(bcryptTargetMillis) : bcryptStrength;
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtService jwtService) throws Exception {
         http
                 .cors().and()
                 .csrf().disable()
                 .authorizeHttpRequests()
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll() // Allow preflight requests
+                // Health checks and metric scrapes, served on the management port
+                .requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
                 .requestMatchers(
                         "/api/proposals/**",
                         "/api/auth/**",  // Allow all authentication endpoints
@@ -49,6 +60,7 @@ public class AuthConfig {
                 .and()
                 .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 .and()
+                .addFilterBefore(new JwtAuthenticationFilter(jwtService), UsernamePasswordAuthenticationFilter.class)
                 .logout()
                 .logoutUrl("/api/auth/logout")
                 .addLogoutHandler((request, response, authentication) -> SecurityContextHolder.clearContext());
@@ -61,7 +73,8 @@ public class AuthConfig {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(List.of("http://localhost:5173", "http://127.0.0.1:5173")); // Allow frontend
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
-        configuration.setAllowedHeaders(List.of("Authorization", "Content-Type", "X-Requested-With"));
+        configuration.setAllowedHeaders(List.of("Authorization", "Content-Type", "X-Requested-With", "Last-Event-ID",
+                "Idempotency-Key"));
         configuration.setAllowCredentials(true); // Allow cookies & credentials
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -75,7 +88,7 @@ public class AuthConfig {
     }
 
     @Bean
-    public UserDetailsService userDetailsService() {
+    public UserDetailsServiceImpl userDetailsService() {
         return new UserDetailsServiceImpl();
     }
 
@@ -84,6 +97,8 @@ public class AuthConfig {
         DaoAuthenticationProvider daoAuthenticationProvider = new DaoAuthenticationProvider();
         daoAuthenticationProvider.setUserDetailsService(userDetailsService());
         daoAuthenticationProvider.setPasswordEncoder(passwordEncoder());
+        // Rehash on successful login when the stored hash was made with a lower strength
+        daoAuthenticationProvider.setUserDetailsPasswordService(userDetailsService());
         return daoAuthenticationProvider;
     }
 }
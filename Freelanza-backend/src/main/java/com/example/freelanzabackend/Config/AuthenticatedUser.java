@@ -0,0 +1,30 @@
+package com.example.freelanzabackend.Config;
+
+import com.example.freelanzabackend.model.UserRole;
+import lombok.*;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+
+// Principal rebuilt from JWT claims, so identifying the caller needs no database lookup
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class AuthenticatedUser {
+    private Integer userId;
+    private String username;
+    private UserRole role;
+    // clientId or freelancerId depending on role
+    private Integer profileId;
+
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        if (role == null) {
+            return List.of();
+        }
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.freelanzabackend.Config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+// Measures BCrypt on this machine at startup, so the cost factor can follow the hardware. Only used
+// when freelanza.security.bcrypt.target-millis is set; PasswordEncoderBenchmark measures a fixed strength.
+public final class BCryptCostCalibrator {
+    private static final Logger logger = LoggerFactory.getLogger(BCryptCostCalibrator.class);
+
+    private static final int MIN_STRENGTH = 4;
+    private static final int MAX_STRENGTH = 16;
+    private static final String SAMPLE_PASSWORD = "calibration-Passw0rd!";
+
+    private BCryptCostCalibrator() {
+    }
+
+    // Highest strength whose single hash stays within targetMillis
+    public static int calibrate(long targetMillis) {
+        int chosen = MIN_STRENGTH;
+        long chosenMillis = 0;
+        for (int strength = MIN_STRENGTH; strength <= MAX_STRENGTH; strength++) {
+            long millis = measureMillis(strength);
+            if (millis > targetMillis) {
+                break;
+            }
+            chosen = strength;
+            chosenMillis = millis;
+        }
+        logger.info("BCrypt calibrated to strength {} for a {} ms target: {} ms per hash, ~{} logins/s per hashing thread",
+                chosen, targetMillis, chosenMillis, 1000 / Math.max(chosenMillis, 1));
+        return chosen;
+    }
+
+    private static long measureMillis(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode(SAMPLE_PASSWORD); // warm-up
+        long start = System.nanoTime();
+        encoder.encode(SAMPLE_PASSWORD);
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.freelanzabackend.Config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// Registers ConcurrencyLimitFilter ahead of security when freelanza.concurrency.max-in-flight is positive.
+// Sized from the JDBC pool: a few waiters per connection keeps PostgreSQL busy without a stampede.
+@Configuration
+@ConditionalOnExpression("${freelanza.concurrency.max-in-flight:0} > 0")
+public class ConcurrencyLimitConfig {
+
+    @Value("${freelanza.concurrency.max-in-flight}")
+    private int maxInFlight;
+    @Value("${freelanza.concurrency.acquire-timeout-ms:2000}")
+    private long acquireTimeoutMs;
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter() {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(maxInFlight, acquireTimeoutMs));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
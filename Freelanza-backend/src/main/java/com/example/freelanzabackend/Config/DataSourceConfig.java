@@ -0,0 +1,69 @@
+package com.example.freelanzabackend.Config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+// Two connection pools: "primary" (spring.datasource.*) for writes and "replica"
+// (freelanza.datasource.replica.*) for @Transactional(readOnly = true) work. Without a replica url
+// everything runs on the primary pool. Hikari reports both pools separately as hikaricp.*{pool=...}.
+@Configuration
+public class DataSourceConfig {
+
+    // Also the connection Flyway migrates with
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    // Not a default candidate, so the auto-configured spring.datasource properties stay the only
+    // DataSourceProperties injected by type
+    @Bean(defaultCandidate = false)
+    @Qualifier("replica")
+    @ConfigurationProperties("freelanza.datasource.replica")
+    @ConditionalOnProperty(prefix = "freelanza.datasource.replica", name = "url")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("freelanza.datasource.replica.hikari")
+    @ConditionalOnProperty(prefix = "freelanza.datasource.replica", name = "url")
+    public HikariDataSource replicaDataSource(@Qualifier("replica") DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    // The data source JPA, JdbcTemplate and the transaction managers use. The physical connection is
+    // only taken on the first statement, after the transaction has been marked read-only or not, so
+    // read-only transactions land on the replica pool and everything else on the primary pool.
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primary,
+                                 @Qualifier("replicaDataSource") ObjectProvider<HikariDataSource> replica) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy();
+        dataSource.setTargetDataSource(primary);
+        replica.ifAvailable(dataSource::setReadOnlyDataSource);
+        // Known upfront, so the proxy does not open a connection at startup to find out
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return dataSource;
+    }
+}
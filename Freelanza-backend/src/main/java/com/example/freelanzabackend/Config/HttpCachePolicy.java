@@ -0,0 +1,41 @@
+package com.example.freelanzabackend.Config;
+
+import com.example.freelanzabackend.Dto.ResourceVersion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+
+// Cache-Control policies per kind of endpoint and helpers for version-validated responses
+public final class HttpCachePolicy {
+
+    // Public job pages: always revalidated, answered with 304 while the version is unchanged
+    public static final CacheControl JOB_DETAIL = CacheControl.noCache().cachePublic();
+    // Profiles carry the email address, so only the browser may keep them
+    public static final CacheControl PROFILE = CacheControl.noCache().cachePrivate();
+    // Listings tolerate a few seconds of staleness
+    public static final CacheControl LISTING = CacheControl.maxAge(Duration.ofSeconds(30)).cachePublic();
+
+    private HttpCachePolicy() {
+    }
+
+    // True when the request's If-None-Match / If-Modified-Since still match; the 304 status, ETag and
+    // Last-Modified have then already been written, and notModified() completes the response
+    public static boolean isNotModified(WebRequest request, ResourceVersion version) {
+        return request.checkNotModified(version.getEtag(), version.lastModifiedMillis());
+    }
+
+    public static <T> ResponseEntity<T> notModified(CacheControl cacheControl) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+    }
+
+    public static <T> ResponseEntity<T> ok(T body, ResourceVersion version, CacheControl cacheControl) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().eTag(version.getEtag()).cacheControl(cacheControl);
+        if (version.getLastModified() != null) {
+            builder.lastModified(version.getLastModified());
+        }
+        return builder.body(body);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.freelanzabackend.Config;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// In-memory token buckets stored as the generic cell rate algorithm: one "theoretical arrival time"
+// per key, advanced with compare-and-set, so taking a token never locks. ConcurrentHashMap spreads
+// the keys over its own striped bins. Buckets that have refilled completely hold no information and
+// are dropped by the periodic purge, which bounds memory by the keys active within one burst window.
+// Past max-keys active buckets, requests for unknown keys are refused until buckets drain.
+public class LocalRateLimiter implements RateLimiter {
+    private static final long FULL_RETRY_MILLIS = 1000;
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastPurge;
+    private final int maxKeys;
+    private final LongSupplier nanoClock;
+
+    public LocalRateLimiter(int maxKeys) {
+        this(maxKeys, System::nanoTime);
+    }
+
+    // Tests drive the buckets with their own clock instead of sleeping
+    LocalRateLimiter(int maxKeys, LongSupplier nanoClock) {
+        this.maxKeys = maxKeys;
+        this.nanoClock = nanoClock;
+        this.lastPurge = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    @Override
+    public long acquire(RateLimitRule rule, String key) {
+        if (rule.unlimited()) {
+            return 0;
+        }
+        long now = nanoClock.getAsLong();
+        String bucketKey = rule.name() + ':' + key;
+        AtomicLong arrival = buckets.get(bucketKey);
+        if (arrival == null) {
+            if (buckets.size() >= maxKeys && !purgeWhenFull(now)) {
+                return FULL_RETRY_MILLIS;
+            }
+            arrival = buckets.computeIfAbsent(bucketKey, k -> new AtomicLong(now));
+        }
+        long interval = rule.emissionIntervalNanos();
+        long capacity = interval * rule.burst();
+        while (true) {
+            long current = arrival.get();
+            long next = Math.max(current, now) + interval;
+            long excess = next - now - capacity;
+            if (excess > 0) {
+                return Math.max(1, TimeUnit.NANOSECONDS.toMillis(excess));
+            }
+            if (arrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // A request racing with the removal of its bucket may get one token more than allowed
+    @Scheduled(fixedDelayString = "${freelanza.rate-limit.purge-interval-ms:60000}")
+    public void purgeIdle() {
+        purge(nanoClock.getAsLong());
+    }
+
+    // Purges at most once a second; true when there is room for a new bucket afterwards
+    private boolean purgeWhenFull(long now) {
+        long last = lastPurge.get();
+        if (now - last >= TimeUnit.SECONDS.toNanos(1) && lastPurge.compareAndSet(last, now)) {
+            purge(now);
+        }
+        return buckets.size() < maxKeys;
+    }
+
+    private void purge(long now) {
+        buckets.entrySet().removeIf(entry -> entry.getValue().get() - now <= 0);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.freelanzabackend.Config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class NotificationConfig {
+
+    @Value("${freelanza.notifications.threads:2}")
+    private int threads;
+    @Value("${freelanza.notifications.queue-capacity:1000}")
+    private int queueCapacity;
+
+    // Writes stream events to subscribers, so a slow connection never holds up the request that
+    // committed the change. Rejected deliveries are handled by ProposalNotificationService.
+    @Bean
+    public ThreadPoolTaskExecutor notificationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("notification-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
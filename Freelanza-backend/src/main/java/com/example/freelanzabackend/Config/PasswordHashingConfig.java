@@ -0,0 +1,31 @@
+package com.example.freelanzabackend.Config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class PasswordHashingConfig {
+
+    @Value("${freelanza.security.hashing.threads:4}")
+    private int threads;
+    @Value("${freelanza.security.hashing.queue-capacity:200}")
+    private int queueCapacity;
+
+    // Dedicated pool for BCrypt so hashing bursts cannot take over Tomcat request threads.
+    // Once the queue is full, new work is rejected instead of piling up.
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
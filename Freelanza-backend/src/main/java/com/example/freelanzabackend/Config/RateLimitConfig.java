@@ -0,0 +1,82 @@
+package com.example.freelanzabackend.Config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpMethod;
+
+import java.time.Duration;
+import java.util.List;
+
+// Per-route limits for the endpoints that are expensive to call: token issues a BCrypt check,
+// register hashes and inserts, apply inserts a proposal. Rates are per minute; a rate of 0 disables
+// that limit. Client IPs are only meaningful behind a proxy when server.forward-headers-strategy is set.
+@Configuration
+public class RateLimitConfig {
+
+    @Value("${freelanza.rate-limit.enabled:true}")
+    private boolean enabled;
+    @Value("${freelanza.rate-limit.max-keys:100000}")
+    private int maxKeys;
+
+    @Value("${freelanza.rate-limit.token-ip.per-minute:30}")
+    private int tokenIpPerMinute;
+    @Value("${freelanza.rate-limit.token-ip.burst:10}")
+    private int tokenIpBurst;
+    @Value("${freelanza.rate-limit.token-username.per-minute:10}")
+    private int tokenUsernamePerMinute;
+    @Value("${freelanza.rate-limit.token-username.burst:5}")
+    private int tokenUsernameBurst;
+    @Value("${freelanza.rate-limit.register-ip.per-minute:10}")
+    private int registerIpPerMinute;
+    @Value("${freelanza.rate-limit.register-ip.burst:5}")
+    private int registerIpBurst;
+    @Value("${freelanza.rate-limit.apply-freelancer.per-minute:20}")
+    private int applyFreelancerPerMinute;
+    @Value("${freelanza.rate-limit.apply-freelancer.burst:10}")
+    private int applyFreelancerBurst;
+    @Value("${freelanza.rate-limit.apply-ip.per-minute:60}")
+    private int applyIpPerMinute;
+    @Value("${freelanza.rate-limit.apply-ip.burst:20}")
+    private int applyIpBurst;
+
+    // Replaced by defining a RateLimiter bean with freelanza.rate-limit.backend set to something else
+    @Bean
+    @ConditionalOnProperty(name = "freelanza.rate-limit.backend", havingValue = "local", matchIfMissing = true)
+    public LocalRateLimiter rateLimiter() {
+        return new LocalRateLimiter(maxKeys);
+    }
+
+    // Username limit on /api/auth/token, checked in AuthController once the body is read
+    @Bean
+    public RateLimitRule tokenUsernameRule() {
+        return rule("token-username", tokenUsernamePerMinute, tokenUsernameBurst);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "freelanza.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(RateLimiter rateLimiter) {
+        List<RateLimitFilter.Route> routes = List.of(
+                new RateLimitFilter.Route(HttpMethod.POST, "/api/auth/token",
+                        rule("token-ip", tokenIpPerMinute, tokenIpBurst), null),
+                new RateLimitFilter.Route(HttpMethod.POST, "/api/auth/register",
+                        rule("register-ip", registerIpPerMinute, registerIpBurst), null),
+                new RateLimitFilter.Route(HttpMethod.POST, "/api/proposals/apply/{jobId}/{freelancerId}",
+                        rule("apply-freelancer", applyFreelancerPerMinute, applyFreelancerBurst), "freelancerId"),
+                new RateLimitFilter.Route(HttpMethod.POST, "/api/proposals/apply/{jobId}/{freelancerId}",
+                        rule("apply-ip", applyIpPerMinute, applyIpBurst), null));
+        FilterRegistrationBean<RateLimitFilter> registration =
+                new FilterRegistrationBean<>(new RateLimitFilter(rateLimiter, routes));
+        registration.addUrlPatterns("/api/*");
+        // Ahead of the concurrency limit, so throttled callers never take a permit
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    private RateLimitRule rule(String name, int perMinute, int burst) {
+        return new RateLimitRule(name, enabled ? perMinute : 0, Duration.ofMinutes(1), Math.max(1, burst));
+    }
+}
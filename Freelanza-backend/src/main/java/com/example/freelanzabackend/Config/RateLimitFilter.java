@@ -0,0 +1,59 @@
+package com.example.freelanzabackend.Config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+// Applies token-bucket limits to selected routes before any work is done for the request. Each route
+// is keyed by the caller's IP or by one of its path variables; all matching routes must grant a token,
+// otherwise the caller gets 429 with Retry-After.
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    // keyVariable names a path variable of the pattern, or is null to key by client IP
+    public record Route(HttpMethod method, String pattern, RateLimitRule rule, String keyVariable) {
+    }
+
+    private final AntPathMatcher matcher = new AntPathMatcher();
+    private final RateLimiter rateLimiter;
+    private final List<Route> routes;
+
+    public RateLimitFilter(RateLimiter rateLimiter, List<Route> routes) {
+        this.rateLimiter = rateLimiter;
+        this.routes = routes;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        long retryAfterMillis = 0;
+        for (Route route : routes) {
+            if (!route.method().matches(request.getMethod()) || !matcher.match(route.pattern(), path)) {
+                continue;
+            }
+            String key = route.keyVariable() == null
+                    ? request.getRemoteAddr()
+                    : matcher.extractUriTemplateVariables(route.pattern(), path).get(route.keyVariable());
+            retryAfterMillis = Math.max(retryAfterMillis, rateLimiter.acquire(route.rule(), key));
+        }
+        if (retryAfterMillis > 0) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds(retryAfterMillis)));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    public static long retryAfterSeconds(long retryAfterMillis) {
+        return Math.max(1, (retryAfterMillis + 999) / 1000);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.freelanzabackend.Config;
+
+import java.time.Duration;
+
+// A token bucket: up to `burst` requests at once, refilled at `permits` per `period`.
+// Non-positive permits means unlimited.
+public record RateLimitRule(String name, int permits, Duration period, int burst) {
+
+    public boolean unlimited() {
+        return permits <= 0;
+    }
+
+    // Time it takes to refill one token
+    public long emissionIntervalNanos() {
+        return period.toNanos() / permits;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.freelanzabackend.Config;
+
+// Token-bucket rate limiting. LocalRateLimiter keeps buckets in memory, which is enough for a single
+// node; several nodes sharing limits can define their own RateLimiter bean (for example backed by
+// Redis or PostgreSQL) and it replaces the local one.
+public interface RateLimiter {
+
+    // Takes a token for the key; returns 0 when the request may proceed, otherwise the milliseconds
+    // until a token will be available
+    long acquire(RateLimitRule rule, String key);
+}
@@ -0,0 +1,31 @@
+package com.example.freelanzabackend.Config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class RegistrationConfig {
+
+    @Value("${freelanza.registration.outbox.threads:2}")
+    private int threads;
+    @Value("${freelanza.registration.outbox.queue-capacity:500}")
+    private int queueCapacity;
+
+    // Builds profiles for freshly committed registrations. Rejected hand-offs are simply dropped:
+    // the row stays PENDING in the outbox and the scheduled sweep processes it.
+    @Bean
+    public ThreadPoolTaskExecutor registrationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("registration-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.freelanzabackend.Config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// Logs a random share of the SQL Hibernate sends, in place of echoing every statement. Durations
+// come from Hibernate's slow-query log; this only shows what a typical request mix looks like.
+public class SqlSamplingInspector implements StatementInspector {
+    private static final Logger logger = LoggerFactory.getLogger(SqlSamplingInspector.class);
+
+    private final double sampleRate;
+
+    public SqlSamplingInspector(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate && logger.isDebugEnabled()) {
+            logger.debug("Sampled SQL: {}", sql);
+        }
+        return sql;
+    }
+}
@@ -4,12 +4,13 @@ import com.example.freelanzabackend.Repository.UserRepository;
 import com.example.freelanzabackend.model.UserCredential;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import java.util.Optional;
 
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
     @Autowired
     private UserRepository userRepository;
     @Override
@@ -18,4 +19,17 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         return credential.map(CustomUserDetails::new).orElseThrow(()->new UsernameNotFoundException("User not found"));
 
     }
+
+    // Called by DaoAuthenticationProvider with an already encoded password when the stored cost is outdated
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Optional<UserCredential> credential=userRepository.findByUsername(user.getUsername());
+        if (credential.isEmpty()) {
+            return user;
+        }
+        UserCredential existing = credential.get();
+        existing.setPassword(newPassword);
+        userRepository.save(existing);
+        return new CustomUserDetails(existing);
+    }
 }
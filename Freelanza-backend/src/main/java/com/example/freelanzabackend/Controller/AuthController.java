@@ -1,22 +1,34 @@
 package com.example.freelanzabackend.Controller;
 
+import com.example.freelanzabackend.Config.AuthenticatedUser;
+import com.example.freelanzabackend.Config.RateLimitFilter;
+import com.example.freelanzabackend.Config.RateLimitRule;
+import com.example.freelanzabackend.Config.RateLimiter;
 import com.example.freelanzabackend.Dto.AuthRequest;
+import com.example.freelanzabackend.Dto.UserView;
 import com.example.freelanzabackend.model.UserCredential;
 import com.example.freelanzabackend.Service.AuthService;
+import com.example.freelanzabackend.Service.PasswordHashingService;
 import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 
 @RestController
@@ -29,13 +41,23 @@ public class AuthController {
     @Autowired
     //for authentication
     private AuthenticationManager authenticationManager;
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+    @Autowired
+    private RateLimiter rateLimiter;
+    @Autowired
+    private RateLimitRule tokenUsernameRule;
+
+    // Hashing endpoints complete on the password-hash pool, releasing the request thread meanwhile
     @PostMapping("register")
-    public String addSingleOne(@RequestBody UserCredential user){
-        return authService.saveOneUser(user);
+    public CompletableFuture<ResponseEntity<String>> addSingleOne(@RequestBody UserCredential user){
+        return authService.saveOneUser(user)
+                .exceptionally(AuthController::hashingFailure);
     }
     @PostMapping("updatePassword")
-    public ResponseEntity<String> updatePassword(@RequestBody UserCredential user){
-        return authService.updatePassword(user);
+    public CompletableFuture<ResponseEntity<String>> updatePassword(@RequestBody UserCredential user){
+        return authService.updatePassword(user)
+                .exceptionally(AuthController::hashingFailure);
 
     }
     @PostConstruct
@@ -43,20 +65,41 @@ public class AuthController {
         logger.info("AuthController Initialized!");
     }
     @PostMapping("token")
-    public ResponseEntity<Map<String, String>> getToken(@RequestBody AuthRequest authRequest) {
-        System.out.println("hello");
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(authRequest.getUsername(), authRequest.getPassword())
-        );
-
-        if (authentication.isAuthenticated()) {
-            String token = authService.generateToken(authRequest.getUsername());
-            Map<String, String> response = new HashMap<>();
-            response.put("token", token);
-            return ResponseEntity.ok(response); // Return token in a JSON response
-        } else {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("message", "Invalid credentials"));
+    public CompletableFuture<ResponseEntity<Map<String, String>>> getToken(@RequestBody AuthRequest authRequest) {
+        // Per-username limit against password guessing spread over many addresses; per-IP is in RateLimitFilter
+        long retryAfterMillis = rateLimiter.acquire(tokenUsernameRule,
+                String.valueOf(authRequest.getUsername()).toLowerCase(Locale.ROOT));
+        if (retryAfterMillis > 0) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, Long.toString(RateLimitFilter.retryAfterSeconds(retryAfterMillis)))
+                    .body(Map.of("message", "Too many attempts, try again later")));
         }
+        // The BCrypt check inside authenticate() runs on the hashing pool
+        return passwordHashingService.submit(() -> {
+            Authentication authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(authRequest.getUsername(), authRequest.getPassword())
+            );
+
+            if (authentication.isAuthenticated()) {
+                String token = authService.generateToken(authRequest.getUsername());
+                Map<String, String> response = new HashMap<>();
+                response.put("token", token);
+                return ResponseEntity.ok(response); // Return token in a JSON response
+            } else {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("message", "Invalid credentials"));
+            }
+        }).exceptionally(e -> {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof AuthenticationException) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("message", "Invalid credentials"));
+            }
+            if (cause instanceof RejectedExecutionException) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "1")
+                        .body(Map.of("message", "Server busy, try again"));
+            }
+            throw e instanceof CompletionException completion ? completion : new CompletionException(cause);
+        });
     }
 
     @GetMapping("/validate")
@@ -68,11 +111,23 @@ public class AuthController {
         }
     }
     @GetMapping("/user")
-    public ResponseEntity<UserCredential> getUserDetails(@RequestParam("token") String token) {
-
-        System.out.println("Hello");
+    public ResponseEntity<UserView> getUserDetails(@RequestParam(value = "token", required = false) String token,
+                                                         Authentication authentication) {
+        if (token == null && authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser caller) {
+            // Bearer token already verified by JwtAuthenticationFilter
+            return authService.getUserdetails(caller);
+        }
         return authService.getUserdetails(token);
     }
+    private static ResponseEntity<String> hashingFailure(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof RejectedExecutionException) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body("Server busy, try again");
+        }
+        throw e instanceof CompletionException completion ? completion : new CompletionException(cause);
+    }
     @GetMapping("hello")
     public String hello(){
         return "hello world";
@@ -1,10 +1,14 @@
 package com.example.freelanzabackend.Controller;
 
+import com.example.freelanzabackend.Dto.ClientDashboard;
+import com.example.freelanzabackend.Dto.ClientDetail;
+import com.example.freelanzabackend.Service.ClientCounterService;
 import com.example.freelanzabackend.Service.ClientService;
 import com.example.freelanzabackend.model.Client;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/clients")
@@ -12,17 +16,24 @@ public class ClientController {
 
     @Autowired
     private ClientService clientService;
+    @Autowired
+    private ClientCounterService clientCounterService;
 
     @GetMapping("/email/{email}")
-    public ResponseEntity<Client> getClientByEmail(@PathVariable String email) {
+    public ResponseEntity<ClientDetail> getClientByEmail(@PathVariable String email) {
         return clientService.getClientByEmail(email);
     }
     @PutMapping("/{clientId}")
-    public ResponseEntity<Client> updateClient(@RequestBody Client client, @PathVariable int clientId) {
+    public ResponseEntity<ClientDetail> updateClient(@RequestBody Client client, @PathVariable int clientId) {
         return clientService.updateClient(client, clientId);
     }
     @GetMapping("/{clientId}")
-    public ResponseEntity<Client> getClient(@PathVariable int clientId) {
-        return clientService.getClient(clientId);
+    public ResponseEntity<ClientDetail> getClient(@PathVariable int clientId, WebRequest request) {
+        return clientService.getClient(clientId, request);
+    }
+    // Dashboard counters in one primary-key read
+    @GetMapping("/{clientId}/dashboard")
+    public ResponseEntity<ClientDashboard> getDashboard(@PathVariable int clientId) {
+        return clientCounterService.getDashboard(clientId);
     }
 }
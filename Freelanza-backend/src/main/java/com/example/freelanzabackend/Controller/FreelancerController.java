@@ -1,12 +1,18 @@
 package com.example.freelanzabackend.Controller;
 
+import com.example.freelanzabackend.Dto.FreelancerDetail;
+import com.example.freelanzabackend.Dto.RecommendedJob;
 import com.example.freelanzabackend.Service.ClientService;
 import com.example.freelanzabackend.Service.FreelancerService;
+import com.example.freelanzabackend.Service.RecommendationService;
 import com.example.freelanzabackend.model.Client;
 import com.example.freelanzabackend.model.Freelancer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/freelancers")
@@ -14,17 +20,23 @@ public class FreelancerController {
 
     @Autowired
     private FreelancerService freelancerService;
+    @Autowired
+    private RecommendationService recommendationService;
 
     @GetMapping("/email/{email}")
-    public ResponseEntity<Freelancer> getClientByEmail(@PathVariable String email) {
+    public ResponseEntity<FreelancerDetail> getClientByEmail(@PathVariable String email) {
         return freelancerService.getFreelancerByMail(email);
     }
     @PutMapping("/{freelancerId}")
-    public ResponseEntity<Freelancer> updateClient(@RequestBody Freelancer freelancer, @PathVariable int freelancerId) {
+    public ResponseEntity<FreelancerDetail> updateClient(@RequestBody Freelancer freelancer, @PathVariable int freelancerId) {
         return freelancerService.updateFreelancer(freelancer, freelancerId);
     }
     @GetMapping("/{freelancerId}")
-    public ResponseEntity<Freelancer> getClient(@PathVariable int freelancerId) {
-        return freelancerService.getFreelancer(freelancerId);
+    public ResponseEntity<FreelancerDetail> getClient(@PathVariable int freelancerId, WebRequest request) {
+        return freelancerService.getFreelancer(freelancerId, request);
+    }
+    @GetMapping("/{freelancerId}/recommended-jobs")
+    public ResponseEntity<List<RecommendedJob>> getRecommendedJobs(@PathVariable int freelancerId) {
+        return recommendationService.getRecommendedJobs(freelancerId);
     }
 }
@@ -1,11 +1,23 @@
 package com.example.freelanzabackend.Controller;
 
+import com.example.freelanzabackend.Dto.JobDetail;
+import com.example.freelanzabackend.Dto.JobFeedFilter;
+import com.example.freelanzabackend.Dto.JobFeedPage;
+import com.example.freelanzabackend.Dto.JobImportResult;
+import com.example.freelanzabackend.Dto.JobListItem;
+import com.example.freelanzabackend.Dto.JobSearchFilter;
+import com.example.freelanzabackend.Dto.JobSummary;
+import com.example.freelanzabackend.Service.JobImportService;
 import com.example.freelanzabackend.Service.JobService;
 import com.example.freelanzabackend.model.Job;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -14,23 +26,47 @@ public class JobController {
 
     @Autowired
     private JobService jobService;
+    @Autowired
+    private JobImportService jobImportService;
     @PostMapping("/{clientId}")
-    public ResponseEntity<Job> createJob(@RequestBody Job job, @PathVariable int clientId) {
+    public ResponseEntity<JobDetail> createJob(@RequestBody Job job, @PathVariable int clientId) {
         return jobService.createjob(job,clientId);
     }
     @GetMapping
-    public ResponseEntity<List<Job>> getAllJobs() {
+    public ResponseEntity<List<JobListItem>> getAllJobs() {
         return jobService.getAllJobs();
     }
+    // Paginated job feed, e.g. /api/jobs/feed?category=Design&skills=React&minBudget=100&size=20&cursor=...
+    @GetMapping("/feed")
+    public ResponseEntity<JobFeedPage> getJobFeed(JobFeedFilter filter) {
+        return jobService.getJobFeed(filter);
+    }
+    // Ranked full-text search, e.g. /api/jobs/search?q=react dashboard&skills=React&status=ACTIVE&page=0
+    @GetMapping("/search")
+    public ResponseEntity<List<JobSummary>> searchJobs(JobSearchFilter filter) {
+        return jobService.searchJobs(filter);
+    }
 
     // Get jobs of a particular client
     @GetMapping("/client/{clientId}")
-    public ResponseEntity<List<Job>> getJobsByClient(@PathVariable int clientId) {
+    public ResponseEntity<List<JobListItem>> getJobsByClient(@PathVariable int clientId) {
         return jobService.getJobsByClient(clientId);
     }
+    // Bulk upload of application/x-ndjson (one job per line) or text/csv (header row, skills separated by ';')
+    @PostMapping(value = "/client/{clientId}/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<JobImportResult> importJobs(@PathVariable int clientId,
+                                                      @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                      InputStream body) {
+        return jobImportService.importJobs(clientId, contentType, body);
+    }
+    // Streams every job of the client as NDJSON in the import format
+    @GetMapping(value = "/client/{clientId}/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportJobs(@PathVariable int clientId) {
+        return jobImportService.exportJobs(clientId);
+    }
     @GetMapping("/{jobId}")
-    public ResponseEntity<Job> getJobById(@PathVariable int jobId) {
-        return jobService.getJobById(jobId);
+    public ResponseEntity<JobDetail> getJobById(@PathVariable int jobId, WebRequest request) {
+        return jobService.getJobById(jobId, request);
     }
     @GetMapping("active/{clientId}")
     public ResponseEntity<Integer> getCountActiveJobs(@PathVariable int clientId){
@@ -1,10 +1,16 @@
 package com.example.freelanzabackend.Controller;
 
+import com.example.freelanzabackend.Config.AuthenticatedUser;
+import com.example.freelanzabackend.Dto.ProposalView;
+import com.example.freelanzabackend.Service.ProposalNotificationService;
 import com.example.freelanzabackend.Service.ProposalService;
 import com.example.freelanzabackend.model.Proposal;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -13,20 +19,50 @@ import java.util.List;
 public class ProposalController {
     @Autowired
     private ProposalService proposalService;
+    @Autowired
+    private ProposalNotificationService proposalNotificationService;
 
     // Add methods to handle HTTP requests related to proposals
     @PostMapping("/apply/{jobId}/{freelancerId}")
-    public ResponseEntity<Proposal> applyProposal(@PathVariable int jobId,
+    public ResponseEntity<ProposalView> applyProposal(@PathVariable int jobId,
                                   @PathVariable int freelancerId,
-                                  @RequestBody Proposal proposal) {
-        return proposalService.applyProposal(jobId, freelancerId, proposal);
+                                  @RequestBody Proposal proposal,
+                                  @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        return proposalService.applyProposal(jobId, freelancerId, proposal, idempotencyKey);
     }
     @GetMapping("/freelancer/{freelancerId}")
-    public List<Proposal> getProposalsByFreelancer(@PathVariable int freelancerId) {
+    public List<ProposalView> getProposalsByFreelancer(@PathVariable int freelancerId) {
         return proposalService.getProposalsByFreelancer(freelancerId);
     }
+    // Accepts the proposal, auto-rejects the other pending ones on its job and completes the job.
+    // Only the client who posted the job may do this.
+    @PostMapping("/{proposalId}/accept")
+    public ResponseEntity<ProposalView> acceptProposal(@PathVariable int proposalId,
+                                                       @AuthenticationPrincipal AuthenticatedUser caller) {
+        return proposalService.acceptProposal(proposalId, caller);
+    }
+    @PostMapping("/reject")
+    public ResponseEntity<Integer> rejectProposals(@RequestBody List<Integer> proposalIds,
+                                                   @AuthenticationPrincipal AuthenticatedUser caller) {
+        return proposalService.rejectProposals(proposalIds, caller);
+    }
     @GetMapping("/client/{clientId}")
-    public ResponseEntity<List<Proposal>> getProposalsByClient(@PathVariable int clientId) {
+    public ResponseEntity<List<ProposalView>> getProposalsByClient(@PathVariable int clientId) {
         return proposalService.getProposalsByClient(clientId);
     }
+    // Server-Sent Events: new proposals on the client's jobs; EventSource resumes via Last-Event-ID.
+    // Only the client itself may subscribe (403 otherwise).
+    @GetMapping(value = "/client/{clientId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamClientProposals(@PathVariable int clientId,
+                                                            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                                            @AuthenticationPrincipal AuthenticatedUser caller) {
+        return proposalNotificationService.subscribeClient(clientId, lastEventId, caller);
+    }
+    // Server-Sent Events: status changes of the freelancer's proposals
+    @GetMapping(value = "/freelancer/{freelancerId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamFreelancerProposals(@PathVariable int freelancerId,
+                                                                @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                                                @AuthenticationPrincipal AuthenticatedUser caller) {
+        return proposalNotificationService.subscribeFreelancer(freelancerId, lastEventId, caller);
+    }
 }
@@ -0,0 +1,16 @@
+package com.example.freelanzabackend.Dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class ClientDashboard {
+    private int clientId;
+    private int totalJobs;
+    private int activeJobs;
+    private int pendingProposals;
+    private int acceptedProposals;
+}
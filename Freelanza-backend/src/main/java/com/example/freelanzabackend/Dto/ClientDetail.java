@@ -0,0 +1,41 @@
+package com.example.freelanzabackend.Dto;
+
+import com.example.freelanzabackend.model.Client;
+import com.example.freelanzabackend.model.Skill;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// Client profile page with the client's jobs as summaries
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class ClientDetail {
+    private Integer clientId;
+    private String name;
+    private String email;
+    private String professionalTitle;
+    private String location;
+    private String bio;
+    private Integer ratings;
+    private LocalDate memberSince;
+    private Integer totalJobs;
+    private Integer activeJobs;
+    private List<String> skills;
+    private List<JobSummary> jobs;
+
+    // Must be called while the client's skills can still be loaded
+    public static ClientDetail from(Client client, List<JobSummary> jobs) {
+        List<String> skills = new ArrayList<>();
+        for (Skill skill : client.getSkills()) {
+            skills.add(skill.getName());
+        }
+        return new ClientDetail(client.getClientId(), client.getName(), client.getEmail(),
+                client.getProfessionalTitle(), client.getLocation(), client.getBio(), client.getRatings(),
+                client.getMemberSince(), client.getTotalJobs(), client.getActiveJobs(), skills, jobs);
+    }
+}
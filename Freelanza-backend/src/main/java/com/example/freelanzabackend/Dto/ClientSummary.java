@@ -0,0 +1,21 @@
+package com.example.freelanzabackend.Dto;
+
+import com.example.freelanzabackend.model.Client;
+import lombok.*;
+
+// Client as embedded in job and proposal views
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class ClientSummary {
+    private Integer clientId;
+    private String name;
+    private String location;
+    private Integer ratings;
+
+    public static ClientSummary from(Client client) {
+        return new ClientSummary(client.getClientId(), client.getName(), client.getLocation(), client.getRatings());
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.freelanzabackend.Dto;
+
+import com.example.freelanzabackend.model.Freelancer;
+import com.example.freelanzabackend.model.Skill;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class FreelancerDetail {
+    private Integer freelancerId;
+    private String name;
+    private String email;
+    private String location;
+    private Float hourlyRate;
+    private String bio;
+    private List<String> skills;
+
+    // Must be called while the freelancer's skills can still be loaded
+    public static FreelancerDetail from(Freelancer freelancer) {
+        List<String> skills = new ArrayList<>();
+        for (Skill skill : freelancer.getSkills()) {
+            skills.add(skill.getName());
+        }
+        return new FreelancerDetail(freelancer.getFreelancerId(), freelancer.getName(), freelancer.getEmail(),
+                freelancer.getLocation(), freelancer.getHourlyRate(), freelancer.getBio(), skills);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.freelanzabackend.Dto;
+
+import com.example.freelanzabackend.model.Freelancer;
+import lombok.*;
+
+// Freelancer as embedded in proposal views
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class FreelancerSummary {
+    private Integer freelancerId;
+    private String name;
+    private String email;
+    private String location;
+    private Float hourlyRate;
+
+    public static FreelancerSummary from(Freelancer freelancer) {
+        return new FreelancerSummary(freelancer.getFreelancerId(), freelancer.getName(), freelancer.getEmail(),
+                freelancer.getLocation(), freelancer.getHourlyRate());
+    }
+}
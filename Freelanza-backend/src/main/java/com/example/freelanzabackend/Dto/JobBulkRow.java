@@ -0,0 +1,30 @@
+package com.example.freelanzabackend.Dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// One job in a bulk import or export. jobId and postedDate are written on export and ignored on import,
+// so an export can be fed back in as an import.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class JobBulkRow {
+    private Integer jobId;
+    private String category;
+    private String jobTitle;
+    private String description;
+    private Integer minBudget;
+    private Integer maxBudget;
+    private String startDate;
+    private String deadline;
+    private String status;
+    private LocalDate postedDate;
+    private List<String> skills = new ArrayList<>();
+}
@@ -0,0 +1,43 @@
+package com.example.freelanzabackend.Dto;
+
+import com.example.freelanzabackend.model.Job;
+import com.example.freelanzabackend.model.JobStatus;
+import com.example.freelanzabackend.model.Skill;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// Single job page; proposals are not included, they have their own endpoints
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class JobDetail {
+    private Integer jobId;
+    private String jobTitle;
+    private String category;
+    private String description;
+    private Integer minBudget;
+    private Integer maxBudget;
+    private Integer budget;
+    private LocalDate startDate;
+    private LocalDate deadline;
+    private LocalDate postedDate;
+    private JobStatus status;
+    private List<String> skills;
+    private ClientSummary client;
+
+    // Must be called while the job's skills can still be loaded
+    public static JobDetail from(Job job) {
+        List<String> skills = new ArrayList<>();
+        for (Skill skill : job.getSkills()) {
+            skills.add(skill.getName());
+        }
+        return new JobDetail(job.getJobId(), job.getJobTitle(), job.getCategory(), job.getDescription(),
+                job.getMinBudget(), job.getMaxBudget(), job.getBudget(), job.getStartDate(), job.getDeadline(),
+                job.getPostedDate(), job.getStatus(), skills, ClientSummary.from(job.getClient()));
+    }
+}
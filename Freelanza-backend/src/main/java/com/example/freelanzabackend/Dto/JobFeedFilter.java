@@ -0,0 +1,23 @@
+package com.example.freelanzabackend.Dto;
+
+import com.example.freelanzabackend.model.JobStatus;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Query parameters accepted by GET /api/jobs/feed
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class JobFeedFilter {
+    private String category;
+    private JobStatus status;
+    private Integer minBudget;
+    private Integer maxBudget;
+    private List<String> skills = new ArrayList<>();
+    private String cursor;
+    private Integer size;
+}
@@ -0,0 +1,16 @@
+package com.example.freelanzabackend.Dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class JobFeedPage {
+    private List<JobSummary> jobs;
+    // Opaque keyset cursor for the next page, null when this is the last page
+    private String nextCursor;
+}
@@ -0,0 +1,14 @@
+package com.example.freelanzabackend.Dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class JobImportError {
+    // 1-based line of the upload, including the CSV header line
+    private long line;
+    private String message;
+}
@@ -0,0 +1,18 @@
+package com.example.freelanzabackend.Dto;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@Getter
+@Setter
+public class JobImportResult {
+    private int imported;
+    private int failed;
+    // Capped so a bad upload cannot grow the response without bound; see errorsTruncated
+    private List<JobImportError> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+}
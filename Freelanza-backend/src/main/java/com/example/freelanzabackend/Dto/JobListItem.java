@@ -0,0 +1,44 @@
+package com.example.freelanzabackend.Dto;
+
+import com.example.freelanzabackend.model.JobStatus;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// Job card in the full listing and a client's job list, built from a JPQL constructor projection
+@Data
+@NoArgsConstructor
+@Getter
+@Setter
+public class JobListItem {
+    private Integer jobId;
+    private String jobTitle;
+    private String category;
+    private String description;
+    private Integer minBudget;
+    private Integer maxBudget;
+    private Integer budget;
+    private LocalDate postedDate;
+    private LocalDate deadline;
+    private JobStatus status;
+    private List<String> skills = new ArrayList<>();
+    private ClientSummary client;
+
+    public JobListItem(Integer jobId, String jobTitle, String category, String description, Integer minBudget,
+                       Integer maxBudget, Integer budget, LocalDate postedDate, LocalDate deadline, JobStatus status,
+                       Integer clientId, String clientName, String clientLocation, Integer clientRatings) {
+        this.jobId = jobId;
+        this.jobTitle = jobTitle;
+        this.category = category;
+        this.description = description;
+        this.minBudget = minBudget;
+        this.maxBudget = maxBudget;
+        this.budget = budget;
+        this.postedDate = postedDate;
+        this.deadline = deadline;
+        this.status = status;
+        this.client = new ClientSummary(clientId, clientName, clientLocation, clientRatings);
+    }
+}
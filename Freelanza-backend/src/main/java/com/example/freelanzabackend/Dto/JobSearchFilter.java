@@ -0,0 +1,24 @@
+package com.example.freelanzabackend.Dto;
+
+import com.example.freelanzabackend.model.JobStatus;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Query parameters accepted by GET /api/jobs/search
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class JobSearchFilter {
+    // Free text matched against title and description, web-search syntax ("react -angular", "\"landing page\"")
+    private String q;
+    private List<String> skills = new ArrayList<>();
+    private Integer minBudget;
+    private Integer maxBudget;
+    private JobStatus status;
+    private Integer page;
+    private Integer size;
+}
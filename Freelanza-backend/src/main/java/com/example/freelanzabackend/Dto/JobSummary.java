@@ -0,0 +1,44 @@
+package com.example.freelanzabackend.Dto;
+
+import com.example.freelanzabackend.model.JobStatus;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// Slim list view of a job, built straight from a JPQL constructor projection
+@Data
+@NoArgsConstructor
+@Getter
+@Setter
+public class JobSummary {
+    private Integer jobId;
+    private String jobTitle;
+    private String category;
+    private Integer minBudget;
+    private Integer maxBudget;
+    private Integer budget;
+    private LocalDate postedDate;
+    private LocalDate deadline;
+    private JobStatus status;
+    private Integer clientId;
+    private String clientName;
+    private List<String> skills = new ArrayList<>();
+
+    public JobSummary(Integer jobId, String jobTitle, String category, Integer minBudget, Integer maxBudget,
+                      Integer budget, LocalDate postedDate, LocalDate deadline, JobStatus status,
+                      Integer clientId, String clientName) {
+        this.jobId = jobId;
+        this.jobTitle = jobTitle;
+        this.category = category;
+        this.minBudget = minBudget;
+        this.maxBudget = maxBudget;
+        this.budget = budget;
+        this.postedDate = postedDate;
+        this.deadline = deadline;
+        this.status = status;
+        this.clientId = clientId;
+        this.clientName = clientName;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.freelanzabackend.Dto;
+
+import com.example.freelanzabackend.model.Job;
+import com.example.freelanzabackend.model.JobStatus;
+import lombok.*;
+
+// Job as embedded in proposal views
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class ProposalJob {
+    private Integer jobId;
+    private String jobTitle;
+    private String category;
+    private Integer minBudget;
+    private Integer maxBudget;
+    private Integer budget;
+    private JobStatus status;
+    private ClientSummary client;
+
+    public static ProposalJob from(Job job) {
+        return new ProposalJob(job.getJobId(), job.getJobTitle(), job.getCategory(), job.getMinBudget(),
+                job.getMaxBudget(), job.getBudget(), job.getStatus(), ClientSummary.from(job.getClient()));
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.freelanzabackend.Dto;
+
+import com.example.freelanzabackend.model.ProposalStatus;
+import lombok.*;
+
+// Payload of a proposal stream event; clients fetch the full proposal view when they need it
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class ProposalNotification {
+    private Integer proposalId;
+    private Integer jobId;
+    private String jobTitle;
+    private Integer freelancerId;
+    private ProposalStatus status;
+}
@@ -0,0 +1,52 @@
+package com.example.freelanzabackend.Dto;
+
+import com.example.freelanzabackend.model.JobStatus;
+import com.example.freelanzabackend.model.Proposal;
+import com.example.freelanzabackend.model.ProposalStatus;
+import lombok.*;
+
+import java.time.LocalDate;
+
+// Proposal with its job, the job's client and the freelancer. Listings build it straight from a JPQL
+// constructor projection in one select; single proposals are mapped from the entity.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class ProposalView {
+    private Integer proposalId;
+    private String coverLetter;
+    private Integer bidAmount;
+    private LocalDate applicationDate;
+    private Integer deliveryDays;
+    private ProposalStatus status;
+    private ProposalJob job;
+    private FreelancerSummary freelancer;
+
+    public ProposalView(Integer proposalId, String coverLetter, Integer bidAmount, LocalDate applicationDate,
+                        Integer deliveryDays, ProposalStatus status,
+                        Integer jobId, String jobTitle, String category, Integer minBudget, Integer maxBudget,
+                        Integer budget, JobStatus jobStatus,
+                        Integer clientId, String clientName, String clientLocation, Integer clientRatings,
+                        Integer freelancerId, String freelancerName, String freelancerEmail,
+                        String freelancerLocation, Float hourlyRate) {
+        this.proposalId = proposalId;
+        this.coverLetter = coverLetter;
+        this.bidAmount = bidAmount;
+        this.applicationDate = applicationDate;
+        this.deliveryDays = deliveryDays;
+        this.status = status;
+        this.job = new ProposalJob(jobId, jobTitle, category, minBudget, maxBudget, budget, jobStatus,
+                new ClientSummary(clientId, clientName, clientLocation, clientRatings));
+        this.freelancer = new FreelancerSummary(freelancerId, freelancerName, freelancerEmail, freelancerLocation,
+                hourlyRate);
+    }
+
+    // Must be called while the proposal's job, client and freelancer can still be loaded
+    public static ProposalView from(Proposal proposal) {
+        return new ProposalView(proposal.getProposalId(), proposal.getCoverLetter(), proposal.getBidAmount(),
+                proposal.getApplicationDate(), proposal.getDeliveryDays(), proposal.getStatus(),
+                ProposalJob.from(proposal.getJob()), FreelancerSummary.from(proposal.getFreelancer()));
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.freelanzabackend.Dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class RecommendedJob {
+    private int jobId;
+    private String jobTitle;
+    private String category;
+    private int minBudget;
+    private int maxBudget;
+    private LocalDate postedDate;
+    // 0..1, higher is a better match
+    private double score;
+}
@@ -0,0 +1,51 @@
+package com.example.freelanzabackend.Dto;
+
+import lombok.*;
+
+import java.time.Instant;
+
+// Validators of a cacheable resource: a strong ETag built from @Version values and the Last-Modified time.
+// Read through small projections so a conditional request can be answered without loading the entity.
+@Data
+@NoArgsConstructor
+@Getter
+@Setter
+public class ResourceVersion {
+    private String etag;
+    private Instant lastModified;
+    private long version;
+    private long parentVersion;
+
+    public ResourceVersion(Long version, Instant updatedAt) {
+        this.etag = "\"" + valueOf(version) + "\"";
+        this.lastModified = updatedAt;
+        this.version = valueOf(version);
+    }
+
+    // For views that embed a parent, e.g. a job with its client summary
+    public ResourceVersion(Long version, Long parentVersion, Instant updatedAt, Instant parentUpdatedAt) {
+        this.etag = "\"" + valueOf(version) + "." + valueOf(parentVersion) + "\"";
+        this.version = valueOf(version);
+        this.parentVersion = valueOf(parentVersion);
+        this.lastModified = updatedAt == null || (parentUpdatedAt != null && parentUpdatedAt.isAfter(updatedAt))
+                ? parentUpdatedAt : updatedAt;
+    }
+
+    // False when the entity was loaded at another version, typically from a second-level cache entry
+    // that a write on another node left behind
+    public boolean isVersionOf(Long entityVersion) {
+        return valueOf(entityVersion) == version;
+    }
+
+    public boolean isParentVersionOf(Long entityVersion) {
+        return valueOf(entityVersion) == parentVersion;
+    }
+
+    public long lastModifiedMillis() {
+        return lastModified == null ? -1 : lastModified.toEpochMilli();
+    }
+
+    private static long valueOf(Long version) {
+        return version == null ? 0 : version;
+    }
+}
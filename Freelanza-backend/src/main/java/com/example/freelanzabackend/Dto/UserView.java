@@ -0,0 +1,16 @@
+package com.example.freelanzabackend.Dto;
+
+import com.example.freelanzabackend.model.UserRole;
+import lombok.*;
+
+// Identity returned by /api/auth/user; never carries the password hash
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class UserView {
+    private Integer id;
+    private String username;
+    private UserRole userRole;
+}
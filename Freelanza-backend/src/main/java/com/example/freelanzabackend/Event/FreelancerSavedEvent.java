@@ -0,0 +1,7 @@
+package com.example.freelanzabackend.Event;
+
+import com.example.freelanzabackend.model.Freelancer;
+
+// Published inside the writing transaction; listeners use @TransactionalEventListener to act after commit
+public record FreelancerSavedEvent(Freelancer freelancer) {
+}
@@ -0,0 +1,7 @@
+package com.example.freelanzabackend.Event;
+
+import com.example.freelanzabackend.model.Job;
+
+// Published inside the writing transaction; listeners use @TransactionalEventListener to act after commit
+public record JobSavedEvent(Job job) {
+}
@@ -0,0 +1,7 @@
+package com.example.freelanzabackend.Event;
+
+import java.util.List;
+
+// Published by JobExpiryService for each batch of jobs it moved to EXPIRED
+public record JobsExpiredEvent(List<Integer> jobIds) {
+}
@@ -0,0 +1,9 @@
+package com.example.freelanzabackend.Event;
+
+import com.example.freelanzabackend.model.ProposalStatus;
+
+// Published when a proposal is created or changes status; carries plain values so listeners running
+// after commit never touch a detached entity
+public record ProposalChangedEvent(int proposalId, int jobId, String jobTitle, int clientId, int freelancerId,
+                                   ProposalStatus status, boolean created) {
+}
@@ -0,0 +1,4 @@
+package com.example.freelanzabackend.Event;
+
+public record RegistrationQueuedEvent(long outboxId) {
+}
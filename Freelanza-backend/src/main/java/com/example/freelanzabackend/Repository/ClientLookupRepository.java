@@ -0,0 +1,11 @@
+package com.example.freelanzabackend.Repository;
+
+import com.example.freelanzabackend.model.Client;
+
+import java.util.Optional;
+
+public interface ClientLookupRepository {
+
+    // Resolves the email through the natural-id cache, then the entity through the second-level cache
+    Optional<Client> findCachedByEmail(String email);
+}
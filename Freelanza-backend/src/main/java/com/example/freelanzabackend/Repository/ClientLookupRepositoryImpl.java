@@ -0,0 +1,23 @@
+package com.example.freelanzabackend.Repository;
+
+import com.example.freelanzabackend.model.Client;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public class ClientLookupRepositoryImpl implements ClientLookupRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Client> findCachedByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Client.class)
+                .loadOptional(email);
+    }
+}
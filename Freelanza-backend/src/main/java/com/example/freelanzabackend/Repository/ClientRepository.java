@@ -1,12 +1,31 @@
 package com.example.freelanzabackend.Repository;
 
+import com.example.freelanzabackend.Dto.ClientDashboard;
+import com.example.freelanzabackend.Dto.ResourceVersion;
 import com.example.freelanzabackend.model.Client;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
-public interface ClientRepository extends JpaRepository<Client,Integer> {
+public interface ClientRepository extends JpaRepository<Client,Integer>, ClientLookupRepository {
     Optional<Client> findByEmail(String email);
+
+    // The client view lists the client's jobs: the sum of their versions changes on any job edit, and
+    // creating or deleting a job bumps the client's own version through its counters
+    @Query("SELECT new com.example.freelanzabackend.Dto.ResourceVersion(c.version, "
+            + "(SELECT coalesce(sum(j.version), 0L) FROM Job j WHERE j.client = c), c.updatedAt, "
+            + "(SELECT max(j.updatedAt) FROM Job j WHERE j.client = c)) "
+            + "FROM Client c WHERE c.clientId = :clientId")
+    Optional<ResourceVersion> findResourceVersion(@Param("clientId") int clientId);
+
+    // Counters straight from the row rather than the second-level cache, where another node's
+    // adjust() or the reconcile job may have left a stale entry
+    @Query("SELECT new com.example.freelanzabackend.Dto.ClientDashboard(c.clientId, coalesce(c.totalJobs, 0), "
+            + "coalesce(c.activeJobs, 0), coalesce(c.pendingProposals, 0), coalesce(c.acceptedProposals, 0)) "
+            + "FROM Client c WHERE c.clientId = :clientId")
+    Optional<ClientDashboard> findDashboard(@Param("clientId") int clientId);
 }
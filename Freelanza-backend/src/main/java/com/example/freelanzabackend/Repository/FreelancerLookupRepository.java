@@ -0,0 +1,11 @@
+package com.example.freelanzabackend.Repository;
+
+import com.example.freelanzabackend.model.Freelancer;
+
+import java.util.Optional;
+
+public interface FreelancerLookupRepository {
+
+    // Resolves the email through the natural-id cache, then the entity through the second-level cache
+    Optional<Freelancer> findCachedByEmail(String email);
+}
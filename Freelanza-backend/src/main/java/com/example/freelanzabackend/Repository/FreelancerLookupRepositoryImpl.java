@@ -0,0 +1,23 @@
+package com.example.freelanzabackend.Repository;
+
+import com.example.freelanzabackend.model.Freelancer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public class FreelancerLookupRepositoryImpl implements FreelancerLookupRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Freelancer> findCachedByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Freelancer.class)
+                .loadOptional(email);
+    }
+}
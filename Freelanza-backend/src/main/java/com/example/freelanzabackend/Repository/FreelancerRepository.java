@@ -1,12 +1,33 @@
 package com.example.freelanzabackend.Repository;
 
+import com.example.freelanzabackend.Dto.ResourceVersion;
 import com.example.freelanzabackend.model.Freelancer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface FreelancerRepository extends JpaRepository<Freelancer,Integer> {
+public interface FreelancerRepository extends JpaRepository<Freelancer,Integer>, FreelancerLookupRepository {
     Optional<Freelancer> findByEmail(String email);
+
+    @Query("SELECT new com.example.freelanzabackend.Dto.ResourceVersion(f.version, f.updatedAt) "
+            + "FROM Freelancer f WHERE f.freelancerId = :freelancerId")
+    Optional<ResourceVersion> findResourceVersion(@Param("freelancerId") int freelancerId);
+
+    @Query("SELECT f.freelancerId, f.hourlyRate FROM Freelancer f")
+    List<Object[]> findRecommendationRows();
+
+    @Query("SELECT f.freelancerId, s.skillId FROM Freelancer f JOIN f.skills s")
+    List<Object[]> findAllSkillIds();
+
+    @Query("SELECT f.freelancerId, f.hourlyRate FROM Freelancer f WHERE f.updatedAt > :since")
+    List<Object[]> findRecommendationRowsUpdatedSince(@Param("since") Instant since);
+
+    @Query("SELECT f.freelancerId, s.skillId FROM Freelancer f JOIN f.skills s WHERE f.updatedAt > :since")
+    List<Object[]> findSkillIdsUpdatedSince(@Param("since") Instant since);
 }
@@ -0,0 +1,13 @@
+package com.example.freelanzabackend.Repository;
+
+import com.example.freelanzabackend.Dto.JobCursor;
+import com.example.freelanzabackend.Dto.JobFeedFilter;
+import com.example.freelanzabackend.Dto.JobSummary;
+
+import java.util.List;
+
+public interface JobFeedRepository {
+
+    // Keyset page ordered by (postedDate, jobId) descending, starting strictly after the cursor
+    List<JobSummary> findJobFeed(JobFeedFilter filter, JobCursor after, int limit);
+}
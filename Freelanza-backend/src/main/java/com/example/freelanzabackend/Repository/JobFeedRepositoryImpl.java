@@ -0,0 +1,80 @@
+package com.example.freelanzabackend.Repository;
+
+import com.example.freelanzabackend.Dto.JobCursor;
+import com.example.freelanzabackend.Dto.JobFeedFilter;
+import com.example.freelanzabackend.Dto.JobSummary;
+import com.example.freelanzabackend.model.Client;
+import com.example.freelanzabackend.model.Job;
+import com.example.freelanzabackend.model.Skill;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class JobFeedRepositoryImpl implements JobFeedRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<JobSummary> findJobFeed(JobFeedFilter filter, JobCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<JobSummary> query = cb.createQuery(JobSummary.class);
+        Root<Job> job = query.from(Job.class);
+        Join<Job, Client> client = job.join("client");
+
+        Path<LocalDate> postedDate = job.get("postedDate");
+        Path<Integer> jobId = job.get("jobId");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.getCategory() != null && !filter.getCategory().isBlank()) {
+            predicates.add(cb.equal(job.get("category"), filter.getCategory()));
+        }
+        if (filter.getStatus() != null) {
+            predicates.add(cb.equal(job.get("status"), filter.getStatus()));
+        }
+        // Budget filters match any job whose [minBudget, maxBudget] range overlaps the requested one
+        if (filter.getMinBudget() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(job.get("maxBudget"), filter.getMinBudget()));
+        }
+        if (filter.getMaxBudget() != null) {
+            predicates.add(cb.lessThanOrEqualTo(job.get("minBudget"), filter.getMaxBudget()));
+        }
+        if (filter.getSkills() != null && !filter.getSkills().isEmpty()) {
+            Subquery<Integer> withSkill = query.subquery(Integer.class);
+            Root<Job> skilled = withSkill.from(Job.class);
+            Join<Job, Skill> skill = skilled.join("skills");
+            withSkill.select(skilled.get("jobId"))
+                    .where(cb.equal(skilled, job), skill.get("name").in(filter.getSkills()));
+            predicates.add(cb.exists(withSkill));
+        }
+        if (after != null) {
+            predicates.add(cb.or(
+                    cb.lessThan(postedDate, after.getPostedDate()),
+                    cb.and(cb.equal(postedDate, after.getPostedDate()), cb.lessThan(jobId, after.getJobId()))
+            ));
+        }
+
+        query.select(cb.construct(JobSummary.class,
+                        jobId,
+                        job.get("jobTitle"),
+                        job.get("category"),
+                        job.get("minBudget"),
+                        job.get("maxBudget"),
+                        job.get("budget"),
+                        postedDate,
+                        job.get("deadline"),
+                        job.get("status"),
+                        client.get("clientId"),
+                        client.get("name")))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.desc(postedDate), cb.desc(jobId));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -1,15 +1,75 @@
 package com.example.freelanzabackend.Repository;
 
+import com.example.freelanzabackend.Dto.JobListItem;
+import com.example.freelanzabackend.Dto.JobSummary;
+import com.example.freelanzabackend.Dto.ResourceVersion;
 import com.example.freelanzabackend.model.Job;
+import com.example.freelanzabackend.model.JobStatus;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface JobRepository extends JpaRepository<Job,Integer> {
+public interface JobRepository extends JpaRepository<Job,Integer>, JobFeedRepository, JobSearchRepository {
 
     List<Job> findByClientClientId(int clientId);
+
+    // The job view embeds a client summary, so the client's version is part of the job's validators
+    @Query("SELECT new com.example.freelanzabackend.Dto.ResourceVersion(j.version, c.version, j.updatedAt, c.updatedAt) "
+            + "FROM Job j JOIN j.client c WHERE j.jobId = :jobId")
+    Optional<ResourceVersion> findResourceVersion(@Param("jobId") int jobId);
+
+    String LIST_ITEM_SELECT = "SELECT new com.example.freelanzabackend.Dto.JobListItem("
+            + "j.jobId, j.jobTitle, j.category, j.description, j.minBudget, j.maxBudget, j.budget, "
+            + "j.postedDate, j.deadline, j.status, c.clientId, c.name, c.location, c.ratings) "
+            + "FROM Job j JOIN j.client c ";
+
+    @Query(LIST_ITEM_SELECT + "ORDER BY j.postedDate DESC, j.jobId DESC")
+    List<JobListItem> findListItems();
+
+    @Query(LIST_ITEM_SELECT + "WHERE c.clientId = :clientId ORDER BY j.postedDate DESC, j.jobId DESC")
+    List<JobListItem> findListItemsByClientId(@Param("clientId") int clientId);
+
+    @Query("SELECT new com.example.freelanzabackend.Dto.JobSummary(j.jobId, j.jobTitle, j.category, j.minBudget, "
+            + "j.maxBudget, j.budget, j.postedDate, j.deadline, j.status, c.clientId, c.name) "
+            + "FROM Job j JOIN j.client c WHERE c.clientId = :clientId ORDER BY j.postedDate DESC, j.jobId DESC")
+    List<JobSummary> findSummariesByClientId(@Param("clientId") int clientId);
+
+    // Export cursor: PostgreSQL only streams with a fetch size inside a transaction, otherwise the
+    // driver buffers the whole result. Read-only and cache-ignoring so the export leaves no trace.
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true"),
+            @QueryHint(name = "org.hibernate.cacheMode", value = "IGNORE")
+    })
+    @Query("SELECT j FROM Job j WHERE j.client.clientId = :clientId ORDER BY j.jobId")
+    Stream<Job> streamByClientId(@Param("clientId") int clientId);
     @Query("SELECT COUNT(j) FROM Job j WHERE j.client.clientId = :clientId AND j.status = 'ACTIVE'")
     Integer countActiveJobsByClientId(@Param("clientId") int clientId);
+
+    // (jobId, skill) pairs for a page of jobs, so skills are loaded in one query instead of per job
+    @Query("SELECT j.jobId, s.name FROM Job j JOIN j.skills s WHERE j.jobId IN :jobIds")
+    List<Object[]> findSkillsByJobIds(@Param("jobIds") Collection<Integer> jobIds);
+
+    // Recommendation index warm-up: scalar rows only, no entity graph
+    @Query("SELECT j.jobId, j.jobTitle, j.category, j.minBudget, j.maxBudget, j.postedDate FROM Job j WHERE j.status = :status")
+    List<Object[]> findRecommendationRowsByStatus(@Param("status") JobStatus status);
+
+    @Query("SELECT j.jobId, s.skillId FROM Job j JOIN j.skills s WHERE j.status = :status")
+    List<Object[]> findSkillIdsByStatus(@Param("status") JobStatus status);
+
+    // Recommendation refresh: every job written since the given time, whatever its status is now
+    @Query("SELECT j.jobId, j.jobTitle, j.category, j.minBudget, j.maxBudget, j.postedDate, j.status "
+            + "FROM Job j WHERE j.updatedAt > :since")
+    List<Object[]> findRecommendationRowsUpdatedSince(@Param("since") Instant since);
+
+    @Query("SELECT j.jobId, s.skillId FROM Job j JOIN j.skills s WHERE j.updatedAt > :since")
+    List<Object[]> findSkillIdsUpdatedSince(@Param("since") Instant since);
 }
@@ -0,0 +1,12 @@
+package com.example.freelanzabackend.Repository;
+
+import com.example.freelanzabackend.Dto.JobSearchFilter;
+import com.example.freelanzabackend.Dto.JobSummary;
+
+import java.util.List;
+
+public interface JobSearchRepository {
+
+    // Ranked full-text search over job title and description, best match first
+    List<JobSummary> searchJobs(JobSearchFilter filter, int offset, int limit);
+}
@@ -0,0 +1,89 @@
+package com.example.freelanzabackend.Repository;
+
+import com.example.freelanzabackend.Dto.JobSearchFilter;
+import com.example.freelanzabackend.Dto.JobSummary;
+import com.example.freelanzabackend.model.JobStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class JobSearchRepositoryImpl implements JobSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<JobSummary> searchJobs(JobSearchFilter filter, int offset, int limit) {
+        boolean hasText = filter.getQ() != null && !filter.getQ().isBlank();
+        Map<String, Object> params = new HashMap<>();
+
+        StringBuilder sql = new StringBuilder(
+                "SELECT j.job_id, j.job_title, j.category, j.min_budget, j.max_budget, j.budget, j.posted_date, "
+                        + "j.deadline, j.status, c.client_id, c.name FROM job j JOIN client c ON c.client_id = j.client_id");
+        if (hasText) {
+            // search_vector and its GIN index are created by the Flyway migrations (db/migration)
+            sql.append(", websearch_to_tsquery('english', :q) tsq WHERE j.search_vector @@ tsq");
+            params.put("q", filter.getQ());
+        } else {
+            sql.append(" WHERE 1 = 1");
+        }
+        if (filter.getStatus() != null) {
+            sql.append(" AND j.status = :status");
+            params.put("status", filter.getStatus().name());
+        }
+        if (filter.getMinBudget() != null) {
+            sql.append(" AND j.max_budget >= :minBudget");
+            params.put("minBudget", filter.getMinBudget());
+        }
+        if (filter.getMaxBudget() != null) {
+            sql.append(" AND j.min_budget <= :maxBudget");
+            params.put("maxBudget", filter.getMaxBudget());
+        }
+        if (filter.getSkills() != null && !filter.getSkills().isEmpty()) {
+            sql.append(" AND EXISTS (SELECT 1 FROM job_skill js JOIN skill s ON s.skill_id = js.skill_id"
+                    + " WHERE js.job_id = j.job_id AND s.name IN (:skills))");
+            params.put("skills", filter.getSkills());
+        }
+        sql.append(hasText
+                ? " ORDER BY ts_rank(j.search_vector, tsq) DESC, j.posted_date DESC, j.job_id DESC"
+                : " ORDER BY j.posted_date DESC, j.job_id DESC");
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        params.forEach(query::setParameter);
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+
+        List<JobSummary> results = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            results.add(new JobSummary(
+                    (Integer) row[0],
+                    (String) row[1],
+                    (String) row[2],
+                    (Integer) row[3],
+                    (Integer) row[4],
+                    (Integer) row[5],
+                    toLocalDate(row[6]),
+                    toLocalDate(row[7]),
+                    row[8] == null ? null : JobStatus.valueOf((String) row[8]),
+                    (Integer) row[9],
+                    (String) row[10]));
+        }
+        return results;
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof Date date) {
+            return date.toLocalDate();
+        }
+        return (LocalDate) value;
+    }
+}
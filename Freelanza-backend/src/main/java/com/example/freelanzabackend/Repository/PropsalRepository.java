@@ -1,14 +1,47 @@
 package com.example.freelanzabackend.Repository;
 
+import com.example.freelanzabackend.Dto.ProposalView;
 import com.example.freelanzabackend.model.Proposal;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.http.ResponseEntity;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface PropsalRepository extends JpaRepository<Proposal,Integer> {
 
     List<Proposal> findByFreelancer_FreelancerId(int freelancerId);
 
     List<Proposal>findByJob_Client_ClientId(int clientId);
+
+    List<Proposal> findByJob_JobId(int jobId);
+
+    Optional<Proposal> findByJob_JobIdAndFreelancer_FreelancerId(int jobId, int freelancerId);
+
+    // Bulk status changes read the job and its client of every proposal, so they come in the same select
+    @Query("SELECT p FROM Proposal p JOIN FETCH p.job j JOIN FETCH j.client WHERE p.proposalId IN :proposalIds")
+    List<Proposal> findAllWithJobByIdIn(@Param("proposalIds") Collection<Integer> proposalIds);
+
+    // Listing reads project straight into ProposalView: one select joining job, client and freelancer
+    String VIEW_SELECT = "SELECT new com.example.freelanzabackend.Dto.ProposalView("
+            + "p.proposalId, p.coverLetter, p.bidAmount, p.applicationDate, p.deliveryDays, p.status, "
+            + "j.jobId, j.jobTitle, j.category, j.minBudget, j.maxBudget, j.budget, j.status, "
+            + "c.clientId, c.name, c.location, c.ratings, "
+            + "f.freelancerId, f.name, f.email, f.Location, f.hourlyRate) "
+            + "FROM Proposal p JOIN p.job j JOIN j.client c JOIN p.freelancer f ";
+
+    @Query(VIEW_SELECT + "WHERE f.freelancerId = :freelancerId ORDER BY p.applicationDate DESC, p.proposalId DESC")
+    List<ProposalView> findViewsByFreelancerId(@Param("freelancerId") int freelancerId);
+
+    @Query(VIEW_SELECT + "WHERE c.clientId = :clientId ORDER BY p.applicationDate DESC, p.proposalId DESC")
+    List<ProposalView> findViewsByClientId(@Param("clientId") int clientId);
+
+    @Query(VIEW_SELECT + "WHERE p.proposalId = :proposalId")
+    Optional<ProposalView> findViewById(@Param("proposalId") int proposalId);
+
+    @Query(VIEW_SELECT + "WHERE j.jobId = :jobId AND f.freelancerId = :freelancerId")
+    Optional<ProposalView> findViewByJobIdAndFreelancerId(@Param("jobId") int jobId,
+                                                          @Param("freelancerId") int freelancerId);
 }
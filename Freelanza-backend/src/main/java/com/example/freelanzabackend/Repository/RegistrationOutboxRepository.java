@@ -0,0 +1,31 @@
+package com.example.freelanzabackend.Repository;
+
+import com.example.freelanzabackend.model.OutboxStatus;
+import com.example.freelanzabackend.model.RegistrationOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RegistrationOutboxRepository extends JpaRepository<RegistrationOutbox, Long> {
+
+    @Query("SELECT o.id FROM RegistrationOutbox o WHERE o.status = :status AND o.nextAttemptAt <= :now ORDER BY o.nextAttemptAt")
+    List<Long> findDueIds(@Param("status") OutboxStatus status, @Param("now") Instant now, Pageable pageable);
+
+    // FOR UPDATE SKIP LOCKED: a row already being worked on by another thread or instance is skipped, not waited for
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM RegistrationOutbox o WHERE o.id = :id AND o.status = :status")
+    Optional<RegistrationOutbox> lockByIdAndStatus(@Param("id") long id, @Param("status") OutboxStatus status);
+
+    @Modifying
+    @Query("DELETE FROM RegistrationOutbox o WHERE o.status = :status AND o.processedAt < :before")
+    int deleteProcessedBefore(@Param("status") OutboxStatus status, @Param("before") Instant before);
+}
@@ -0,0 +1,27 @@
+package com.example.freelanzabackend.Repository;
+
+import com.example.freelanzabackend.model.Skill;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SkillRepository extends JpaRepository<Skill,Integer> {
+    List<Skill> findByNameIn(Collection<String> names);
+
+    // Safe under concurrent registration of the same new skill. Ids come from skill_seq so they never
+    // collide with ranges handed out by the pooled optimizer. The query space hint limits
+    // second-level cache invalidation to the skill region instead of every region.
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "skill"))
+    @Query(value = "INSERT INTO skill (skill_id, name) VALUES (nextval('skill_seq'), :name) "
+            + "ON CONFLICT (name) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name);
+}
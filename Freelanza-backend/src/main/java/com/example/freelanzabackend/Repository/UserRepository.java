@@ -9,4 +9,5 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<UserCredential,Integer> {
     Optional<UserCredential> findByUsername(String username);
+    boolean existsByUsername(String username);
 }
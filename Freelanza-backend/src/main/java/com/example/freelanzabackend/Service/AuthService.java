@@ -1,26 +1,37 @@
 package com.example.freelanzabackend.Service;
 
+import com.example.freelanzabackend.Config.AuthenticatedUser;
+import com.example.freelanzabackend.Dto.UserView;
+import com.example.freelanzabackend.Repository.ClientRepository;
+import com.example.freelanzabackend.Repository.FreelancerRepository;
 import com.example.freelanzabackend.Repository.UserRepository;
+import com.example.freelanzabackend.model.Client;
+import com.example.freelanzabackend.model.Freelancer;
 import com.example.freelanzabackend.model.UserCredential;
 import com.example.freelanzabackend.model.UserRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class AuthService {
     @Autowired
-    private ClientService clientService;
-    @Autowired
-    private FreelancerService freelancerService;
+    private RegistrationService registrationService;
     @Autowired
     private UserRepository userRepository;
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private ClientRepository clientRepository;
+    @Autowired
+    private FreelancerRepository freelancerRepository;
+    @Autowired
+    private PasswordHashingService passwordHashingService;
     @Autowired
     private JwtService jwtService;
 
@@ -28,42 +39,69 @@ public class AuthService {
         UserCredential user = userRepository.findByUsername(username).orElseThrow(() ->
                 new RuntimeException("User not found"));
 
-
-        return jwtService.generateToken(username);
+        // Profiles are keyed by the username (email), see saveOneUser
+        Integer profileId = null;
+        if (user.getUserRole() == UserRole.FREELANCER) {
+            profileId = freelancerRepository.findCachedByEmail(username).map(Freelancer::getFreelancerId).orElse(null);
+        } else if (user.getUserRole() == UserRole.CLIENT) {
+            profileId = clientRepository.findCachedByEmail(username).map(Client::getClientId).orElse(null);
+        }
+        return jwtService.generateToken(user, profileId);
     }
     public boolean validateToken(String token) {
         return jwtService.validateToken(token);
     }
 
-    public ResponseEntity<String> updatePassword(UserCredential user) {
+    public CompletableFuture<ResponseEntity<String>> updatePassword(UserCredential user) {
         UserCredential existingUser=userRepository.findByUsername(user.getUsername())
                 .orElseThrow(()-> new RuntimeException("User not found"));
-        existingUser.setPassword(passwordEncoder.encode(user.getPassword()));
-        userRepository.save(existingUser);
-        return new ResponseEntity<>("Password updated successfully", HttpStatus.OK);
+        return passwordHashingService.encode(user.getPassword()).thenApply(hash -> {
+            existingUser.setPassword(hash);
+            userRepository.save(existingUser);
+            return new ResponseEntity<>("Password updated successfully", HttpStatus.OK);
+        });
 
     }
-    public ResponseEntity<UserCredential> getUserdetails(String token) {
-        if (!jwtService.validateToken(token)) {
+    public ResponseEntity<UserView> getUserdetails(String token) {
+        Claims claims;
+        try {
+            claims = jwtService.parseClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
             return ResponseEntity.status(401).build();
         }
-        System.out.println("Fuck You Bro");
-        String username = jwtService.extractUsername(token);
-        UserCredential user = jwtService.getUserByUsername(username);
-        return ResponseEntity.ok(user);
-
+        return getUserdetails(jwtService.toAuthenticatedUser(claims));
+    }
 
+    public ResponseEntity<UserView> getUserdetails(AuthenticatedUser caller) {
+        if (caller.getUserId() == null || caller.getRole() == null) {
+            // Token issued before identity claims were embedded, fall back to the database
+            UserCredential user = jwtService.getUserByUsername(caller.getUsername());
+            return ResponseEntity.ok(new UserView(user.getId(), user.getUsername(), user.getUserRole()));
+        }
+        return ResponseEntity.ok(new UserView(caller.getUserId(), caller.getUsername(), caller.getRole()));
     }
 
-    public String saveOneUser(UserCredential user) {
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
-        userRepository.save(user);
-        if(user.getUserRole()== UserRole.FREELANCER){
-            freelancerService.createFreelancer(user.getUsername(),user.getName());
+    // The credential and its outbox row commit together; the profile is created by RegistrationOutboxWorker
+    public CompletableFuture<ResponseEntity<String>> saveOneUser(UserCredential user) {
+        if (user.getUsername() == null || user.getUsername().isBlank() || user.getPassword() == null) {
+            return CompletableFuture.completedFuture(
+                    new ResponseEntity<>("Username and password are required", HttpStatus.BAD_REQUEST));
         }
-        else{
-            clientService.createClient(user.getUsername(),user.getName());
+        // Cheap pre-check so duplicate sign-ups do not spend a BCrypt hash; register() checks again
+        if (userRepository.existsByUsername(user.getUsername())) {
+            return CompletableFuture.completedFuture(
+                    new ResponseEntity<>("Username already registered", HttpStatus.CONFLICT));
         }
-        return "User Saved Successfully";
+        return passwordHashingService.encode(user.getPassword()).thenApply(hash -> {
+            user.setPassword(hash);
+            try {
+                if (!registrationService.register(user)) {
+                    return new ResponseEntity<>("Username already registered", HttpStatus.CONFLICT);
+                }
+            } catch (DataIntegrityViolationException e) {
+                return new ResponseEntity<>("Username already registered", HttpStatus.CONFLICT);
+            }
+            return new ResponseEntity<>("User Saved Successfully", HttpStatus.OK);
+        });
     }
 }
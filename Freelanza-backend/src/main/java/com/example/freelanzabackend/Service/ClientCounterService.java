@@ -0,0 +1,191 @@
+package com.example.freelanzabackend.Service;
+
+import com.example.freelanzabackend.Dto.ClientDashboard;
+import com.example.freelanzabackend.Repository.ClientRepository;
+import com.example.freelanzabackend.model.Client;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.Optional;
+
+// Denormalized per-client dashboard counters, maintained in the same transaction as the job or
+// proposal write that changes them and periodically reconciled against the real rows.
+@Service
+public class ClientCounterService {
+    private static final Logger logger = LoggerFactory.getLogger(ClientCounterService.class);
+
+    // Arbitrary application-wide key for pg_try_advisory_xact_lock, distinct from JobExpiryService's
+    private static final long ADVISORY_LOCK_KEY = 0x434e5452L;
+    private static final int RECONCILE_BATCH_SIZE = 100;
+
+    // Finds clients whose counters differ from the real rows, in one pass over job and proposal
+    private static final String DRIFTED_SQL = """
+            SELECT c.client_id
+            FROM client c
+            LEFT JOIN (
+                SELECT client_id,
+                       count(*) AS total_jobs,
+                       count(*) FILTER (WHERE status = 'ACTIVE') AS active_jobs
+                FROM job GROUP BY client_id
+            ) j ON j.client_id = c.client_id
+            LEFT JOIN (
+                SELECT jb.client_id,
+                       count(*) FILTER (WHERE pr.status = 'PENDING') AS pending_proposals,
+                       count(*) FILTER (WHERE pr.status = 'ACCEPTED') AS accepted_proposals
+                FROM proposal pr JOIN job jb ON jb.job_id = pr.job_id
+                GROUP BY jb.client_id
+            ) p ON p.client_id = c.client_id
+            WHERE c.total_jobs IS DISTINCT FROM coalesce(j.total_jobs, 0)
+               OR c.active_jobs IS DISTINCT FROM coalesce(j.active_jobs, 0)
+               OR c.pending_proposals IS DISTINCT FROM coalesce(p.pending_proposals, 0)
+               OR c.accepted_proposals IS DISTINCT FROM coalesce(p.accepted_proposals, 0)
+            ORDER BY c.client_id
+            """;
+
+    // Conflicts with adjust()'s row lock but not with inserts referencing the client; taken in id order
+    private static final String LOCK_SQL =
+            "SELECT client_id FROM client WHERE client_id = ANY (?) ORDER BY client_id FOR NO KEY UPDATE";
+
+    // Recounts the locked clients over the (client_id, status) index and writes only rows that still
+    // differ. The version bump keeps client ETags honest for rows changed behind Hibernate's back.
+    private static final String REPAIR_SQL = """
+            UPDATE client c
+            SET total_jobs = s.total_jobs,
+                active_jobs = s.active_jobs,
+                pending_proposals = s.pending_proposals,
+                accepted_proposals = s.accepted_proposals,
+                version = coalesce(c.version, 0) + 1,
+                updated_at = now()
+            FROM (
+                SELECT cl.client_id,
+                       (SELECT count(*) FROM job j WHERE j.client_id = cl.client_id) AS total_jobs,
+                       (SELECT count(*) FROM job j
+                        WHERE j.client_id = cl.client_id AND j.status = 'ACTIVE') AS active_jobs,
+                       (SELECT count(*) FROM proposal pr JOIN job j ON j.job_id = pr.job_id
+                        WHERE j.client_id = cl.client_id AND pr.status = 'PENDING') AS pending_proposals,
+                       (SELECT count(*) FROM proposal pr JOIN job j ON j.job_id = pr.job_id
+                        WHERE j.client_id = cl.client_id AND pr.status = 'ACCEPTED') AS accepted_proposals
+                FROM client cl
+                WHERE cl.client_id = ANY (?)
+            ) s
+            WHERE c.client_id = s.client_id
+              AND (c.total_jobs IS DISTINCT FROM s.total_jobs
+                OR c.active_jobs IS DISTINCT FROM s.active_jobs
+                OR c.pending_proposals IS DISTINCT FROM s.pending_proposals
+                OR c.accepted_proposals IS DISTINCT FROM s.accepted_proposals)
+            RETURNING c.client_id
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private ClientRepository clientRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Applies counter deltas under a row lock; must run inside the caller's write transaction
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void adjust(int clientId, int totalJobs, int activeJobs, int pendingProposals, int acceptedProposals) {
+        Client client = entityManager.find(Client.class, clientId);
+        if (client == null) {
+            return;
+        }
+        // Re-read the row under a lock so concurrent writers cannot lose increments and the version
+        // matches the committed one (the entity may have come from the second-level cache).
+        // Refresh only cascades to already loaded jobs; the flush keeps an earlier adjustment in the same
+        // transaction from being discarded. Writing back through the entity keeps the cache entry in sync.
+        entityManager.flush();
+        entityManager.refresh(client, LockModeType.PESSIMISTIC_WRITE);
+        client.setTotalJobs(valueOf(client.getTotalJobs()) + totalJobs);
+        client.setActiveJobs(valueOf(client.getActiveJobs()) + activeJobs);
+        client.setPendingProposals(valueOf(client.getPendingProposals()) + pendingProposals);
+        client.setAcceptedProposals(valueOf(client.getAcceptedProposals()) + acceptedProposals);
+    }
+
+    // One primary-key read of the counter columns, bypassing the second-level cache
+    @Transactional(readOnly = true)
+    public ResponseEntity<ClientDashboard> getDashboard(int clientId) {
+        Optional<ClientDashboard> dashboard = clientRepository.findDashboard(clientId);
+        if (dashboard.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return new ResponseEntity<>(dashboard.get(), HttpStatus.OK);
+    }
+
+    // Finds drifted clients without locking, then repairs them in small batches. Each batch locks its
+    // client rows first, which waits for in-flight adjust() calls; the recount then runs as a new
+    // statement that sees their committed rows, and any write that adjusts later applies its delta on
+    // top of the recount. One node at a time, like the job expiry sweep.
+    @Scheduled(fixedDelayString = "${freelanza.dashboard.reconcile-interval-ms:600000}",
+            initialDelayString = "${freelanza.dashboard.reconcile-initial-delay-ms:60000}")
+    public void reconcile() {
+        List<Integer> drifted = jdbcTemplate.queryForList(DRIFTED_SQL, Integer.class);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int repaired = 0;
+        try {
+            for (int from = 0; from < drifted.size(); from += RECONCILE_BATCH_SIZE) {
+                Integer[] batch = drifted.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, drifted.size()))
+                        .toArray(new Integer[0]);
+                List<Integer> updated = transaction.execute(status -> repairBatch(batch));
+                if (updated == null) {
+                    logger.debug("Counter reconcile skipped, another node holds the lock");
+                    break;
+                }
+                // The update bypassed Hibernate; evicted after commit so nothing reloads the old row
+                updated.forEach(clientId -> entityManagerFactory.getCache().evict(Client.class, clientId));
+                repaired += updated.size();
+            }
+        } catch (ConcurrencyFailureException e) {
+            // Deadlock or lock timeout against a regular write; the next run picks the rest up
+            logger.info("Counter reconcile interrupted by a concurrent write: {}", e.getMessage());
+        }
+        if (repaired > 0) {
+            logger.warn("Reconciled dashboard counters for {} clients", repaired);
+        }
+    }
+
+    // Ids of the clients repaired, or null when another node is reconciling
+    private List<Integer> repairBatch(Integer[] clientIds) {
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, ADVISORY_LOCK_KEY))) {
+            return null;
+        }
+        jdbcTemplate.query(withIds(LOCK_SQL, clientIds), rs -> {
+        });
+        return jdbcTemplate.query(withIds(REPAIR_SQL, clientIds), (rs, rowNum) -> rs.getInt(1));
+    }
+
+    private static PreparedStatementCreator withIds(String sql, Integer[] ids) {
+        return connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setArray(1, connection.createArrayOf("integer", ids));
+            return statement;
+        };
+    }
+
+    private static int valueOf(Object counter) {
+        return counter == null ? 0 : ((Number) counter).intValue();
+    }
+}
@@ -1,19 +1,32 @@
 package com.example.freelanzabackend.Service;
 
+import com.example.freelanzabackend.Config.HttpCachePolicy;
+import com.example.freelanzabackend.Dto.ClientDetail;
+import com.example.freelanzabackend.Dto.ResourceVersion;
 import com.example.freelanzabackend.Repository.ClientRepository;
 import com.example.freelanzabackend.model.Client;
 import com.example.freelanzabackend.model.Freelancer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Optional;
 
 @Service
 public class ClientService {
+    @PersistenceContext
+    private EntityManager entityManager;
     @Autowired
     private ClientRepository clientRepository;
+    @Autowired
+    private SkillService skillService;
+    @Autowired
+    private JobService jobService;
 
     public Client createClient(String email, String name) {
         Client client = new Client();
@@ -22,17 +35,19 @@ public class ClientService {
         return clientRepository.save(client);
     }
 
-    public ResponseEntity<Client> getClientByEmail(String email) {
-        Optional<Client> clientOptional = clientRepository.findByEmail(email);
+    @Transactional(readOnly = true)
+    public ResponseEntity<ClientDetail> getClientByEmail(String email) {
+        Optional<Client> clientOptional = clientRepository.findCachedByEmail(email);
 
         if (clientOptional.isPresent()) {
-            return new ResponseEntity<>(clientOptional.get(), HttpStatus.OK);
+            return new ResponseEntity<>(toDetail(clientOptional.get()), HttpStatus.OK);
         } else {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
     }
 
-    public ResponseEntity<Client> updateClient(Client updatedClient, int clientId) {
+    @Transactional
+    public ResponseEntity<ClientDetail> updateClient(Client updatedClient, int clientId) {
         Optional<Client> clientOptional = clientRepository.findById(clientId);
         if (clientOptional.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
@@ -56,19 +71,36 @@ public class ClientService {
             client.setProfessionalTitle(updatedClient.getProfessionalTitle());
         }
         if (updatedClient.getSkills() != null && !updatedClient.getSkills().isEmpty()) {
-            client.setSkills(updatedClient.getSkills());
+            client.setSkills(skillService.resolve(updatedClient.getSkills()));
         }
 
         clientRepository.save(client);
-        return new ResponseEntity<>(client, HttpStatus.OK);
+        return new ResponseEntity<>(toDetail(client), HttpStatus.OK);
     }
 
-    public ResponseEntity<Client> getClient(int clientId) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<ClientDetail> getClient(int clientId, WebRequest request) {
+        Optional<ResourceVersion> current = clientRepository.findResourceVersion(clientId);
+        if (current.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        if (HttpCachePolicy.isNotModified(request, current.get())) {
+            return HttpCachePolicy.notModified(HttpCachePolicy.PROFILE);
+        }
         Optional<Client> clientOptional = clientRepository.findById(clientId);
         if (clientOptional.isPresent()) {
-            return new ResponseEntity<>(clientOptional.get(), HttpStatus.OK);
+            Client client = clientOptional.get();
+            // Stale second-level cache entry after a write on another node, see JobService.getJobById
+            if (!current.get().isVersionOf(client.getVersion())) {
+                entityManager.refresh(client);
+            }
+            return HttpCachePolicy.ok(toDetail(client), current.get(), HttpCachePolicy.PROFILE);
         } else {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
     }
+
+    private ClientDetail toDetail(Client client) {
+        return ClientDetail.from(client, jobService.getJobSummariesByClient(client.getClientId()));
+    }
 }
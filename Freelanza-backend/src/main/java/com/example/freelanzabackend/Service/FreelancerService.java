@@ -1,20 +1,36 @@
 package com.example.freelanzabackend.Service;
 
+import com.example.freelanzabackend.Config.HttpCachePolicy;
+import com.example.freelanzabackend.Dto.FreelancerDetail;
+import com.example.freelanzabackend.Dto.ResourceVersion;
+import com.example.freelanzabackend.Event.FreelancerSavedEvent;
 import com.example.freelanzabackend.Repository.FreelancerRepository;
 import com.example.freelanzabackend.model.Client;
 import com.example.freelanzabackend.model.Freelancer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Repository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Optional;
 
 @Service
 public class FreelancerService {
+    @PersistenceContext
+    private EntityManager entityManager;
     @Autowired
     private FreelancerRepository freelancerRepository;
+    @Autowired
+    private SkillService skillService;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     public Freelancer createFreelancer(String email,String name) {
         Freelancer freelancer = new Freelancer();
@@ -24,17 +40,19 @@ public class FreelancerService {
         return freelancer;
 
     }
-    public ResponseEntity<Freelancer> getFreelancerByMail(String email) {
-        Optional<Freelancer> freelancerOptional = freelancerRepository.findByEmail(email);
+    @Transactional(readOnly = true)
+    public ResponseEntity<FreelancerDetail> getFreelancerByMail(String email) {
+        Optional<Freelancer> freelancerOptional = freelancerRepository.findCachedByEmail(email);
 
         if (freelancerOptional.isPresent()) {
-            return new ResponseEntity<>(freelancerOptional.get(), HttpStatus.OK);
+            return new ResponseEntity<>(FreelancerDetail.from(freelancerOptional.get()), HttpStatus.OK);
         } else {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
     }
 
-    public ResponseEntity<Freelancer> updateFreelancer(Freelancer updatedFreelancer, int freelancerId) {
+    @Transactional
+    public ResponseEntity<FreelancerDetail> updateFreelancer(Freelancer updatedFreelancer, int freelancerId) {
         try {
             Optional<Freelancer> freelancerOptional = freelancerRepository.findById(freelancerId);
             if (freelancerOptional.isEmpty()) {
@@ -59,20 +77,36 @@ public class FreelancerService {
                 freelancer.setHourlyRate(updatedFreelancer.getHourlyRate());
             }
             if (updatedFreelancer.getSkills() != null && !updatedFreelancer.getSkills().isEmpty()) {
-                freelancer.setSkills(updatedFreelancer.getSkills());
+                freelancer.setSkills(skillService.resolve(updatedFreelancer.getSkills()));
             }
 
             freelancerRepository.save(freelancer);
-            return new ResponseEntity<>(freelancer, HttpStatus.OK);
+            eventPublisher.publishEvent(new FreelancerSavedEvent(freelancer));
+            return new ResponseEntity<>(FreelancerDetail.from(freelancer), HttpStatus.OK);
         } catch (Exception e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
-    public ResponseEntity<Freelancer> getFreelancer(int freelancerId) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<FreelancerDetail> getFreelancer(int freelancerId, WebRequest request) {
+        Optional<ResourceVersion> current = freelancerRepository.findResourceVersion(freelancerId);
+        if (current.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        if (HttpCachePolicy.isNotModified(request, current.get())) {
+            return HttpCachePolicy.notModified(HttpCachePolicy.PROFILE);
+        }
         Optional<Freelancer> freelancerOptional = freelancerRepository.findById(freelancerId);
         if (freelancerOptional.isPresent()) {
-            return new ResponseEntity<>(freelancerOptional.get(), HttpStatus.OK);
+            Freelancer freelancer = freelancerOptional.get();
+            // Stale second-level cache entry after a write on another node, see JobService.getJobById
+            if (!current.get().isVersionOf(freelancer.getVersion())) {
+                entityManager.refresh(freelancer);
+            }
+            ResourceVersion version = new ResourceVersion(freelancer.getVersion(), freelancer.getUpdatedAt());
+            return HttpCachePolicy.ok(FreelancerDetail.from(freelancer), version, HttpCachePolicy.PROFILE);
         } else {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
@@ -0,0 +1,131 @@
+package com.example.freelanzabackend.Service;
+
+import com.example.freelanzabackend.Event.JobsExpiredEvent;
+import com.example.freelanzabackend.model.Job;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Moves ACTIVE jobs whose deadline has passed to EXPIRED. Each batch is one UPDATE over the
+// (status, deadline) index in its own short transaction, guarded by a transaction-scoped advisory
+// lock so only one node sweeps at a time; rows locked by a concurrent write are skipped and picked
+// up on the next run. The version bump makes a concurrent proposal acceptance on the same job fail
+// its optimistic check instead of completing an expired job.
+@Service
+public class JobExpiryService {
+    private static final Logger logger = LoggerFactory.getLogger(JobExpiryService.class);
+
+    // Arbitrary application-wide key for pg_try_advisory_xact_lock
+    private static final long ADVISORY_LOCK_KEY = 0x4a4f4245L;
+
+    private static final String EXPIRE_BATCH_SQL = """
+            UPDATE job j
+            SET status = 'EXPIRED',
+                version = coalesce(j.version, 0) + 1,
+                updated_at = now()
+            WHERE j.job_id IN (
+                SELECT job_id FROM job
+                WHERE status = 'ACTIVE' AND deadline < ?
+                ORDER BY deadline
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING j.job_id, j.client_id
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private ClientCounterService clientCounterService;
+    @Autowired
+    private RecommendationService recommendationService;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${freelanza.jobs.expiry.batch-size:500}")
+    private int batchSize;
+    @Value("${freelanza.jobs.expiry.max-batches:20}")
+    private int maxBatches;
+
+    @Scheduled(fixedDelayString = "${freelanza.jobs.expiry.interval-ms:300000}",
+            initialDelayString = "${freelanza.jobs.expiry.initial-delay-ms:30000}")
+    public void sweep() {
+        LocalDate today = LocalDate.now();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int expired = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer count;
+            try {
+                count = transaction.execute(status -> expireBatch(today));
+            } catch (ConcurrencyFailureException e) {
+                // Deadlock or lock timeout against a regular write; the batch rolled back and its jobs
+                // are still ACTIVE, so the next batch picks them up again
+                logger.info("Job expiry batch interrupted by a concurrent write: {}", e.getMessage());
+                continue;
+            }
+            if (count == null || count < 0) {
+                logger.debug("Job expiry sweep skipped, another node holds the lock");
+                break;
+            }
+            expired += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+        if (expired > 0) {
+            logger.info("Expired {} jobs past their deadline", expired);
+        }
+    }
+
+    // Returns the number of jobs expired, or -1 when another node is sweeping
+    private int expireBatch(LocalDate today) {
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, ADVISORY_LOCK_KEY))) {
+            return -1;
+        }
+        List<Integer> jobIds = new ArrayList<>();
+        // Sorted so the client rows are locked in id order, the same order reconcile locks them in
+        Map<Integer, Integer> expiredByClient = new TreeMap<>();
+        jdbcTemplate.query(EXPIRE_BATCH_SQL, rs -> {
+            jobIds.add(rs.getInt(1));
+            expiredByClient.merge(rs.getInt(2), 1, Integer::sum);
+        }, Date.valueOf(today), batchSize);
+        if (jobIds.isEmpty()) {
+            return 0;
+        }
+        expiredByClient.forEach((clientId, count) -> clientCounterService.adjust(clientId, 0, -count, 0, 0));
+        eventPublisher.publishEvent(new JobsExpiredEvent(jobIds));
+        return jobIds.size();
+    }
+
+    // The update bypassed Hibernate: drop the cached jobs once the new state is visible, then take
+    // them out of the recommendation index
+    @TransactionalEventListener
+    public void onJobsExpired(JobsExpiredEvent event) {
+        for (int jobId : event.jobIds()) {
+            entityManagerFactory.getCache().evict(Job.class, jobId);
+            recommendationService.onJobClosed(jobId);
+        }
+    }
+}
@@ -0,0 +1,382 @@
+package com.example.freelanzabackend.Service;
+
+import com.example.freelanzabackend.Dto.JobBulkRow;
+import com.example.freelanzabackend.Dto.JobImportError;
+import com.example.freelanzabackend.Dto.JobImportResult;
+import com.example.freelanzabackend.Event.JobSavedEvent;
+import com.example.freelanzabackend.Repository.ClientRepository;
+import com.example.freelanzabackend.Repository.JobRepository;
+import com.example.freelanzabackend.model.Client;
+import com.example.freelanzabackend.model.Job;
+import com.example.freelanzabackend.model.JobStatus;
+import com.example.freelanzabackend.model.Skill;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.stream.Stream;
+
+// Bulk job upload and download for agency clients. Uploads are read line by line and written in
+// chunks of freelanza.jobs.import.chunk-size rows, one transaction per chunk, so memory stays bounded
+// by the chunk rather than the upload. Exports stream from a database cursor.
+@Service
+public class JobImportService {
+    private static final Logger logger = LoggerFactory.getLogger(JobImportService.class);
+
+    public static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    public static final MediaType CSV = MediaType.parseMediaType("text/csv");
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int EXPORT_CHUNK_SIZE = 100;
+    private static final String CSV_SKILL_SEPARATOR = ";";
+    private static final Set<String> CSV_COLUMNS = Set.of("category", "jobtitle", "description", "minbudget",
+            "maxbudget", "startdate", "deadline", "status", "skills");
+
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private ClientRepository clientRepository;
+    @Autowired
+    private SkillService skillService;
+    @Autowired
+    private ClientCounterService clientCounterService;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${freelanza.jobs.import.chunk-size:500}")
+    private int chunkSize;
+
+    private record PendingJob(long line, Job job) {
+    }
+
+    public ResponseEntity<JobImportResult> importJobs(int clientId, String contentType, InputStream body) {
+        MediaType mediaType;
+        try {
+            mediaType = MediaType.parseMediaType(contentType);
+        } catch (RuntimeException e) {
+            return new ResponseEntity<>(HttpStatus.UNSUPPORTED_MEDIA_TYPE);
+        }
+        boolean csv = CSV.isCompatibleWith(mediaType);
+        if (!csv && !NDJSON.isCompatibleWith(mediaType)) {
+            return new ResponseEntity<>(HttpStatus.UNSUPPORTED_MEDIA_TYPE);
+        }
+        if (!clientRepository.existsById(clientId)) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+
+        JobImportResult result = new JobImportResult();
+        List<PendingJob> chunk = new ArrayList<>(chunkSize);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            List<String> header = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (csv && header == null) {
+                    header = parseCsvHeader(line);
+                    if (header == null) {
+                        reportError(result, lineNumber, "CSV header must only contain the columns " + CSV_COLUMNS);
+                        return new ResponseEntity<>(result, HttpStatus.BAD_REQUEST);
+                    }
+                    continue;
+                }
+                try {
+                    JobBulkRow row = csv ? parseCsvRow(header, line) : parseNdjsonRow(line);
+                    chunk.add(new PendingJob(lineNumber, toJob(row)));
+                } catch (IllegalArgumentException e) {
+                    reportError(result, lineNumber, e.getMessage());
+                }
+                if (chunk.size() >= chunkSize) {
+                    insertChunk(clientId, chunk, result);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            // Rows from chunks already committed stay imported; the result tells the caller where it stopped
+            logger.warn("Job import for client {} aborted after {} rows: {}", clientId, result.getImported(), e.getMessage());
+            return new ResponseEntity<>(result, HttpStatus.BAD_REQUEST);
+        }
+        if (!chunk.isEmpty()) {
+            insertChunk(clientId, chunk, result);
+        }
+        logger.info("Imported {} jobs for client {} ({} rows rejected)", result.getImported(), clientId, result.getFailed());
+        return new ResponseEntity<>(result, HttpStatus.OK);
+    }
+
+    // One transaction per chunk. A database error rejects the chunk's rows but not earlier or later chunks.
+    private void insertChunk(int clientId, List<PendingJob> chunk, JobImportResult result) {
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                Client client = entityManager.getReference(Client.class, clientId);
+                List<Skill> requested = new ArrayList<>();
+                for (PendingJob pending : chunk) {
+                    requested.addAll(pending.job().getSkills());
+                }
+                Map<String, Skill> skills = new HashMap<>();
+                for (Skill skill : skillService.resolve(requested)) {
+                    skills.put(skill.getName(), skill);
+                }
+
+                List<Job> jobs = new ArrayList<>(chunk.size());
+                int active = 0;
+                for (PendingJob pending : chunk) {
+                    Job job = pending.job();
+                    Set<Skill> resolved = new LinkedHashSet<>();
+                    for (Skill skill : job.getSkills()) {
+                        resolved.add(skills.get(skill.getName()));
+                    }
+                    job.setSkills(resolved);
+                    job.setClient(client);
+                    jobs.add(job);
+                    if (job.getStatus() == JobStatus.ACTIVE) {
+                        active++;
+                    }
+                }
+                jobRepository.saveAll(jobs);
+                jobRepository.flush();
+                clientCounterService.adjust(clientId, jobs.size(), active, 0, 0);
+                for (Job job : jobs) {
+                    eventPublisher.publishEvent(new JobSavedEvent(job));
+                }
+            });
+            result.setImported(result.getImported() + chunk.size());
+        } catch (RuntimeException e) {
+            logger.warn("Job import chunk for client {} failed: {}", clientId, e.getMessage());
+            for (PendingJob pending : chunk) {
+                reportError(result, pending.line(), "Not saved: " + e.getMessage());
+            }
+        }
+    }
+
+    private JobBulkRow parseNdjsonRow(String line) {
+        try {
+            return objectMapper.readValue(line, JobBulkRow.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    // Column names are matched case-insensitively; returns null when an unknown column is present
+    private static List<String> parseCsvHeader(String line) {
+        List<String> header = new ArrayList<>();
+        for (String column : splitCsvLine(line)) {
+            String name = column.trim().toLowerCase(Locale.ROOT);
+            if (!CSV_COLUMNS.contains(name)) {
+                return null;
+            }
+            header.add(name);
+        }
+        return header;
+    }
+
+    private static JobBulkRow parseCsvRow(List<String> header, String line) {
+        List<String> values = splitCsvLine(line);
+        if (values.size() != header.size()) {
+            throw new IllegalArgumentException("Expected " + header.size() + " columns but found " + values.size());
+        }
+        JobBulkRow row = new JobBulkRow();
+        for (int i = 0; i < header.size(); i++) {
+            String value = values.get(i).isBlank() ? null : values.get(i).trim();
+            switch (header.get(i)) {
+                case "category" -> row.setCategory(value);
+                case "jobtitle" -> row.setJobTitle(value);
+                case "description" -> row.setDescription(value);
+                case "minbudget" -> row.setMinBudget(parseInteger("minBudget", value));
+                case "maxbudget" -> row.setMaxBudget(parseInteger("maxBudget", value));
+                case "startdate" -> row.setStartDate(value);
+                case "deadline" -> row.setDeadline(value);
+                case "status" -> row.setStatus(value);
+                case "skills" -> {
+                    if (value != null) {
+                        row.setSkills(new ArrayList<>(Arrays.asList(value.split(CSV_SKILL_SEPARATOR))));
+                    }
+                }
+                default -> throw new IllegalStateException("Unexpected column " + header.get(i));
+            }
+        }
+        return row;
+    }
+
+    // RFC 4180 quoting within a single line; quoted fields spanning several lines are not supported
+    private static List<String> splitCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private static Integer parseInteger(String column, String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " must be a whole number");
+        }
+    }
+
+    private static LocalDate parseDate(String field, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(field + " must be a date in YYYY-MM-DD form");
+        }
+    }
+
+    // Same rules and defaults as a single job created through JobService.createjob
+    private static Job toJob(JobBulkRow row) {
+        if (row.getJobTitle() == null || row.getJobTitle().isBlank()) {
+            throw new IllegalArgumentException("jobTitle is required");
+        }
+        if (row.getMinBudget() == null || row.getMaxBudget() == null) {
+            throw new IllegalArgumentException("minBudget and maxBudget are required");
+        }
+        if (row.getMinBudget() < 0 || row.getMaxBudget() < row.getMinBudget()) {
+            throw new IllegalArgumentException("Budget range must satisfy 0 <= minBudget <= maxBudget");
+        }
+        JobStatus status = JobStatus.ACTIVE;
+        if (row.getStatus() != null && !row.getStatus().isBlank()) {
+            try {
+                status = JobStatus.valueOf(row.getStatus().trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown status " + row.getStatus());
+            }
+        }
+
+        Job job = new Job();
+        job.setJobTitle(row.getJobTitle().trim());
+        job.setCategory(row.getCategory());
+        job.setDescription(row.getDescription());
+        job.setMinBudget(row.getMinBudget());
+        job.setMaxBudget(row.getMaxBudget());
+        job.setBudget((row.getMinBudget() + row.getMaxBudget()) / 2);
+        job.setStartDate(parseDate("startDate", row.getStartDate()));
+        job.setDeadline(parseDate("deadline", row.getDeadline()));
+        job.setStatus(status);
+        job.setPostedDate(LocalDate.now());
+        Set<Skill> skills = new LinkedHashSet<>();
+        if (row.getSkills() != null) {
+            for (String name : row.getSkills()) {
+                if (name != null && !name.isBlank()) {
+                    skills.add(Skill.of(name));
+                }
+            }
+        }
+        job.setSkills(skills);
+        return job;
+    }
+
+    private static void reportError(JobImportResult result, long line, String message) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add(new JobImportError(line, message));
+        } else {
+            result.setErrorsTruncated(true);
+        }
+    }
+
+    // NDJSON export in the import format. The cursor is read inside a read-only transaction on the
+    // async response thread; skills are fetched per chunk and the persistence context is cleared
+    // after each chunk, so memory does not grow with the number of jobs.
+    public ResponseEntity<StreamingResponseBody> exportJobs(int clientId) {
+        if (!clientRepository.existsById(clientId)) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        StreamingResponseBody body = out -> {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            readOnly.executeWithoutResult(status -> {
+                try (Stream<Job> jobs = jobRepository.streamByClientId(clientId)) {
+                    List<Job> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+                    Iterator<Job> iterator = jobs.iterator();
+                    while (iterator.hasNext()) {
+                        chunk.add(iterator.next());
+                        if (chunk.size() >= EXPORT_CHUNK_SIZE || !iterator.hasNext()) {
+                            writeChunk(chunk, out);
+                            chunk.clear();
+                            entityManager.clear();
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+
+    private void writeChunk(List<Job> jobs, OutputStream out) throws IOException {
+        Map<Integer, List<String>> skills = new HashMap<>();
+        List<Integer> jobIds = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            jobIds.add(job.getJobId());
+        }
+        for (Object[] row : jobRepository.findSkillsByJobIds(jobIds)) {
+            skills.computeIfAbsent((Integer) row[0], k -> new ArrayList<>()).add((String) row[1]);
+        }
+        for (Job job : jobs) {
+            JobBulkRow row = new JobBulkRow(job.getJobId(), job.getCategory(), job.getJobTitle(), job.getDescription(),
+                    job.getMinBudget(), job.getMaxBudget(), Objects.toString(job.getStartDate(), null), Objects.toString(job.getDeadline(), null),
+                    job.getStatus() == null ? null : job.getStatus().name(), job.getPostedDate(),
+                    skills.getOrDefault(job.getJobId(), List.of()));
+            out.write(objectMapper.writeValueAsBytes(row));
+            out.write('\n');
+        }
+        out.flush();
+    }
+}
@@ -1,54 +1,153 @@
 package com.example.freelanzabackend.Service;
 
+import com.example.freelanzabackend.Config.HttpCachePolicy;
+import com.example.freelanzabackend.Dto.JobCursor;
+import com.example.freelanzabackend.Dto.JobDetail;
+import com.example.freelanzabackend.Dto.JobFeedFilter;
+import com.example.freelanzabackend.Dto.JobFeedPage;
+import com.example.freelanzabackend.Dto.JobListItem;
+import com.example.freelanzabackend.Dto.JobSearchFilter;
+import com.example.freelanzabackend.Dto.JobSummary;
+import com.example.freelanzabackend.Dto.ResourceVersion;
+import com.example.freelanzabackend.Event.JobSavedEvent;
 import com.example.freelanzabackend.Repository.ClientRepository;
 import com.example.freelanzabackend.Repository.JobRepository;
 import com.example.freelanzabackend.model.Client;
 import com.example.freelanzabackend.model.Job;
+import com.example.freelanzabackend.model.JobStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 @Service
 public class JobService {
+    private static final int DEFAULT_FEED_SIZE = 20;
+    private static final int MAX_FEED_SIZE = 100;
 
+    @PersistenceContext
+    private EntityManager entityManager;
     @Autowired
     private JobRepository jobRepository;
     @Autowired
     private ClientRepository clientRepository;
-    public ResponseEntity<Job> createjob(Job job, int clientId) {
+    @Autowired
+    private SkillService skillService;
+    @Autowired
+    private ClientCounterService clientCounterService;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Transactional
+    public ResponseEntity<JobDetail> createjob(Job job, int clientId) {
         Optional<Client> clientOptional = clientRepository.findById(clientId);
         if (clientOptional.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
 
         Client client = clientOptional.get();
+        // A version in the request body would make save() merge instead of insert
+        job.setVersion(null);
         job.setClient(client);
+        job.setSkills(skillService.resolve(job.getSkills()));
         job.setBudget((job.getMaxBudget()+job.getMinBudget())/2);
         job.setPostedDate(LocalDate.now());
         Job savedJob = jobRepository.save(job);
+        clientCounterService.adjust(clientId, 1, savedJob.getStatus() == JobStatus.ACTIVE ? 1 : 0, 0, 0);
+        eventPublisher.publishEvent(new JobSavedEvent(savedJob));
 
-        return new ResponseEntity<>(savedJob, HttpStatus.CREATED);
+        return new ResponseEntity<>(JobDetail.from(savedJob), HttpStatus.CREATED);
     }
     // Get all jobs
-    public ResponseEntity<List<Job>> getAllJobs() {
-        List<Job> jobs = jobRepository.findAll();
-        return new ResponseEntity<>(jobs, HttpStatus.OK);
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<JobListItem>> getAllJobs() {
+        List<JobListItem> jobs = jobRepository.findListItems();
+        attachSkills(jobs, JobListItem::getJobId, JobListItem::getSkills);
+        return ResponseEntity.ok().cacheControl(HttpCachePolicy.LISTING).body(jobs);
+    }
+
+    // Keyset-paginated, filtered job feed returning slim summaries instead of the entity graph
+    @Transactional(readOnly = true)
+    public ResponseEntity<JobFeedPage> getJobFeed(JobFeedFilter filter) {
+        JobCursor after = null;
+        if (filter.getCursor() != null && !filter.getCursor().isBlank()) {
+            try {
+                after = JobCursor.decode(filter.getCursor());
+            } catch (IllegalArgumentException e) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+        }
+        int size = filter.getSize() == null ? DEFAULT_FEED_SIZE : Math.min(Math.max(filter.getSize(), 1), MAX_FEED_SIZE);
+
+        // Fetch one extra row to know whether another page exists
+        List<JobSummary> jobs = jobRepository.findJobFeed(filter, after, size + 1);
+        boolean hasMore = jobs.size() > size;
+        if (hasMore) {
+            jobs = new ArrayList<>(jobs.subList(0, size));
+        }
+
+        attachSkills(jobs, JobSummary::getJobId, JobSummary::getSkills);
+
+        String nextCursor = null;
+        if (hasMore) {
+            JobSummary last = jobs.get(jobs.size() - 1);
+            nextCursor = new JobCursor(last.getPostedDate(), last.getJobId()).encode();
+        }
+        return ResponseEntity.ok().cacheControl(HttpCachePolicy.LISTING).body(new JobFeedPage(jobs, nextCursor));
+    }
+
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<JobSummary>> searchJobs(JobSearchFilter filter) {
+        int size = filter.getSize() == null ? DEFAULT_FEED_SIZE : Math.min(Math.max(filter.getSize(), 1), MAX_FEED_SIZE);
+        int page = filter.getPage() == null ? 0 : Math.max(filter.getPage(), 0);
+        List<JobSummary> jobs = jobRepository.searchJobs(filter, page * size, size);
+        attachSkills(jobs, JobSummary::getJobId, JobSummary::getSkills);
+        return ResponseEntity.ok().cacheControl(HttpCachePolicy.LISTING).body(jobs);
+    }
+
+    // Summaries of a client's jobs with their skills, for the client profile
+    public List<JobSummary> getJobSummariesByClient(int clientId) {
+        List<JobSummary> jobs = jobRepository.findSummariesByClientId(clientId);
+        attachSkills(jobs, JobSummary::getJobId, JobSummary::getSkills);
+        return jobs;
+    }
+
+    // Loads skills for a list of projected jobs with one query
+    private <T> void attachSkills(List<T> jobs, Function<T, Integer> jobId, Function<T, List<String>> skills) {
+        if (jobs.isEmpty()) {
+            return;
+        }
+        Map<Integer, T> byId = new HashMap<>();
+        for (T job : jobs) {
+            byId.put(jobId.apply(job), job);
+        }
+        for (Object[] row : jobRepository.findSkillsByJobIds(byId.keySet())) {
+            skills.apply(byId.get((Integer) row[0])).add((String) row[1]);
+        }
     }
 
     // Get jobs of a specific client
-    public ResponseEntity<List<Job>> getJobsByClient(int clientId) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<JobListItem>> getJobsByClient(int clientId) {
         try{
-            Optional<Client> clientOptional = clientRepository.findById(clientId);
-            if (clientOptional.isEmpty()) {
+            if (!clientRepository.existsById(clientId)) {
                 return new ResponseEntity<>(HttpStatus.NOT_FOUND);
             }
 
-            List<Job> jobs = jobRepository.findByClientClientId(clientId);
+            List<JobListItem> jobs = jobRepository.findListItemsByClientId(clientId);
+            attachSkills(jobs, JobListItem::getJobId, JobListItem::getSkills);
             return new ResponseEntity<>(jobs, HttpStatus.OK);
         } catch (Exception e) {
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -56,19 +155,42 @@ public class JobService {
 
     }
 
-    public ResponseEntity<Job> getJobById(int jobId) {
+    // Conditional requests are answered from the version projection without loading the job
+    @Transactional(readOnly = true)
+    public ResponseEntity<JobDetail> getJobById(int jobId, WebRequest request) {
+        Optional<ResourceVersion> current = jobRepository.findResourceVersion(jobId);
+        if (current.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        if (HttpCachePolicy.isNotModified(request, current.get())) {
+            return HttpCachePolicy.notModified(HttpCachePolicy.JOB_DETAIL);
+        }
         Optional<Job> jobOptional = jobRepository.findById(jobId);
         if (jobOptional.isPresent()) {
-            return new ResponseEntity<>(jobOptional.get(), HttpStatus.OK);
+            Job job = jobOptional.get();
+            // A write on another node leaves this node's second-level cache behind the versions read
+            // above; reload whatever is stale so the body is the one the ETag describes
+            if (!current.get().isVersionOf(job.getVersion())) {
+                entityManager.refresh(job);
+            }
+            if (!current.get().isParentVersionOf(job.getClient().getVersion())) {
+                entityManager.refresh(job.getClient());
+            }
+            ResourceVersion version = new ResourceVersion(job.getVersion(), job.getClient().getVersion(),
+                    job.getUpdatedAt(), job.getClient().getUpdatedAt());
+            return HttpCachePolicy.ok(JobDetail.from(job), version, HttpCachePolicy.JOB_DETAIL);
         } else {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
     }
 
+    @Transactional(readOnly = true)
     public ResponseEntity<Integer> getCountActiveJobs(int clientId) {
         try{
-            Integer count = jobRepository.countActiveJobsByClientId(clientId);
-            return new ResponseEntity<>(count, HttpStatus.OK);
+            // Served from the denormalized counter instead of a COUNT over job
+            Optional<Client> clientOptional = clientRepository.findById(clientId);
+            Integer count = clientOptional.map(Client::getActiveJobs).orElse(null);
+            return new ResponseEntity<>(count == null ? 0 : count, HttpStatus.OK);
         } catch (Exception e) {
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
         }
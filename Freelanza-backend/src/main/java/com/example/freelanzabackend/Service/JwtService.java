@@ -1,10 +1,15 @@
 package com.example.freelanzabackend.Service;
 
+import com.example.freelanzabackend.Config.AuthenticatedUser;
 import com.example.freelanzabackend.Repository.UserRepository;
 import com.example.freelanzabackend.model.UserCredential;
-import com.example.freelanzabackend.Repository.UserRepository;
+import com.example.freelanzabackend.model.UserRole;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -12,9 +17,15 @@ import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 
 @Component
@@ -25,14 +36,46 @@ public class JwtService {
     private static final long TOKEN_VALIDITY = 1000 * 60 * 30;
     public static final String SECRET = "42fd281ad04c98138f1556dc95b9a535da7036974cdcca8d1c57f508689bb98e9f31fdcace377d432dfcfd90195a566e69d15a9bbd9de6d50262502eea823001ab7aa1209903ffa4b5767b169cd99f485efcf6dad4152eb80f4b9198c0707838251abaf4e278652039a0277715674b39e26f7121cd6777c57a349223f37a120fbed63e87154bbe72000906cdbc7edbaaffd8455eb8e40f3d56c00d33c6ea3bc6fceb45223df570a3404a159a023253e38c91bb2fc22fdfcb6386c90b82e745ba7239c5bbd437d6af4bca600bf8dee44ee6c5f7bcb75984f3dbb499707415f96d0dd09249d8ab235b8a9df3faed75c02b22946feb714127d5bedf3d3c4a369d80";
 
+    private static final int CLAIMS_CACHE_SIZE = 10_000;
+
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_CLIENT_ID = "clientId";
+    public static final String CLAIM_FREELANCER_ID = "freelancerId";
+
+    // Decoded once; the key and the parser built from it are immutable and safe to share across threads
+    private final Key signKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+    private final JwtParser jwtParser = Jwts.parserBuilder()
+            .setSigningKey(signKey)
+            .build();
+
+    // Verified claims keyed by SHA-256 of the token. Each entry expires at its token's exp; past the size
+    // limit Caffeine evicts the least useful entries.
+    private final Cache<String, Claims> claimsCache = Caffeine.newBuilder()
+            .maximumSize(CLAIMS_CACHE_SIZE)
+            .expireAfter(new Expiry<String, Claims>() {
+                @Override
+                public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                    long remaining = claims.getExpiration().getTime() - System.currentTimeMillis();
+                    return TimeUnit.MILLISECONDS.toNanos(Math.max(remaining, 0));
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                    return expireAfterCreate(key, claims, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
     public boolean validateToken(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(getSignKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-                return true;
+            parseClaims(token);
+            return true;
 
         } catch (JwtException | IllegalArgumentException e) {
             throw new RuntimeException("Token validation failed: " + e.getMessage());
@@ -41,27 +84,59 @@ public class JwtService {
 
 
     public String extractUsername(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSignKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = parseClaims(token);
         return claims.getSubject(); // The username is stored as the subject in the token
     }
 
+    public Claims parseClaims(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("Token is empty");
+        }
+        String key = hash(token);
+        Claims cached = claimsCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
 
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        // Tokens without exp never expire on their own, so they are verified on every request instead
+        if (claims.getExpiration() != null) {
+            claimsCache.put(key, claims);
+        }
+        return claims;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
 
 
-    public String generateToken(String username) {
 
-        ;
+    // profileId is the clientId or freelancerId matching the user's role, when the profile exists
+    public String generateToken(UserCredential user, Integer profileId) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_USER_ID, user.getId());
+        if (user.getUserRole() != null) {
+            claims.put(CLAIM_ROLE, user.getUserRole().name());
+            if (profileId != null) {
+                claims.put(user.getUserRole() == UserRole.CLIENT ? CLAIM_CLIENT_ID : CLAIM_FREELANCER_ID, profileId);
+            }
+        }
+        return createToken(claims, user.getUsername());
+    }
 
-        return Jwts.builder()
-                .setSubject(username)
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + TOKEN_VALIDITY))
-                .signWith(getSignKey(), SignatureAlgorithm.HS256)
-                .compact();
+    public AuthenticatedUser toAuthenticatedUser(Claims claims) {
+        String role = claims.get(CLAIM_ROLE, String.class);
+        UserRole userRole = role == null ? null : UserRole.valueOf(role);
+        Integer profileId = userRole == UserRole.CLIENT
+                ? claims.get(CLAIM_CLIENT_ID, Integer.class)
+                : claims.get(CLAIM_FREELANCER_ID, Integer.class);
+        return new AuthenticatedUser(claims.get(CLAIM_USER_ID, Integer.class), claims.getSubject(), userRole, profileId);
     }
 
     private String createToken(Map<String, Object> claims, String userName) {
@@ -69,13 +144,8 @@ public class JwtService {
                 .setClaims(claims)
                 .setSubject(userName)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 30))
-                .signWith(getSignKey(), SignatureAlgorithm.HS256).compact();
-    }
-
-    private Key getSignKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(SECRET);
-        return Keys.hmacShaKeyFor(keyBytes);
+                .setExpiration(new Date(System.currentTimeMillis() + TOKEN_VALIDITY))
+                .signWith(signKey, SignatureAlgorithm.HS256).compact();
     }
 
     public UserCredential getUserByUsername(String username) {
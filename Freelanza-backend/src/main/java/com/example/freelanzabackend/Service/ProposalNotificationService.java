@@ -0,0 +1,288 @@
+package com.example.freelanzabackend.Service;
+
+import com.example.freelanzabackend.Config.AuthenticatedUser;
+import com.example.freelanzabackend.Dto.ProposalNotification;
+import com.example.freelanzabackend.Event.ProposalChangedEvent;
+import com.example.freelanzabackend.Repository.ClientRepository;
+import com.example.freelanzabackend.Repository.FreelancerRepository;
+import com.example.freelanzabackend.model.Client;
+import com.example.freelanzabackend.model.Freelancer;
+import com.example.freelanzabackend.model.UserRole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Server-Sent Event streams of proposal changes: clients hear about new proposals on their jobs and
+// freelancers about status changes of their proposals. Open streams are async requests, so idle
+// subscribers hold no thread. Memory is bounded by the connection cap and a fixed-size replay buffer
+// that lets a reconnecting EventSource resume from its Last-Event-ID; when the id is no longer in the
+// buffer (or comes from before a restart) the stream starts with a "resync" event and the client
+// reloads its proposal list instead.
+@Service
+public class ProposalNotificationService {
+    private static final Logger logger = LoggerFactory.getLogger(ProposalNotificationService.class);
+
+    public static final String PROPOSAL_CREATED = "proposal-created";
+    public static final String PROPOSAL_STATUS = "proposal-status";
+    public static final String RESYNC = "resync";
+
+    private static final int HEARTBEAT_BATCH_SIZE = 500;
+
+    // Event ids are "<epoch>-<sequence>"; the epoch tells ids of this process apart from earlier ones
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<String, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    // Guarded by itself; appending an event and registering a subscriber both happen under this lock,
+    // so every event is either replayed to a new subscriber or pushed to it live, never both
+    private final ArrayDeque<StreamEvent> replayBuffer = new ArrayDeque<>();
+    private long sequence;
+
+    @Autowired
+    @Qualifier("notificationExecutor")
+    private ThreadPoolTaskExecutor notificationExecutor;
+    @Autowired
+    private ClientRepository clientRepository;
+    @Autowired
+    private FreelancerRepository freelancerRepository;
+
+    @Value("${freelanza.notifications.max-connections:10000}")
+    private int maxConnections;
+    @Value("${freelanza.notifications.replay-capacity:5000}")
+    private int replayCapacity;
+    @Value("${freelanza.notifications.timeout-ms:1800000}")
+    private long timeoutMs;
+    @Value("${freelanza.notifications.reconnect-ms:3000}")
+    private long reconnectMs;
+
+    // Streams are private to their owner: only the client or freelancer named in the path may subscribe
+    public ResponseEntity<SseEmitter> subscribeClient(int clientId, String lastEventId, AuthenticatedUser caller) {
+        Integer callerId = callerProfileId(caller, UserRole.CLIENT);
+        if (callerId == null || callerId != clientId) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+        return subscribe(clientTopic(clientId), lastEventId);
+    }
+
+    public ResponseEntity<SseEmitter> subscribeFreelancer(int freelancerId, String lastEventId, AuthenticatedUser caller) {
+        Integer callerId = callerProfileId(caller, UserRole.FREELANCER);
+        if (callerId == null || callerId != freelancerId) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+        return subscribe(freelancerTopic(freelancerId), lastEventId);
+    }
+
+    // Client or freelancer id of the caller when it has the given role, otherwise null. Tokens issued
+    // before the profile id was embedded fall back to the cached email lookup, as in ProposalService.
+    private Integer callerProfileId(AuthenticatedUser caller, UserRole role) {
+        if (caller == null || caller.getRole() != role) {
+            return null;
+        }
+        if (caller.getProfileId() != null) {
+            return caller.getProfileId();
+        }
+        if (role == UserRole.CLIENT) {
+            return clientRepository.findCachedByEmail(caller.getUsername()).map(Client::getClientId).orElse(null);
+        }
+        return freelancerRepository.findCachedByEmail(caller.getUsername()).map(Freelancer::getFreelancerId).orElse(null);
+    }
+
+    @TransactionalEventListener
+    public void onProposalChanged(ProposalChangedEvent event) {
+        ProposalNotification payload = new ProposalNotification(event.proposalId(), event.jobId(), event.jobTitle(),
+                event.freelancerId(), event.status());
+        if (event.created()) {
+            publish(clientTopic(event.clientId()), PROPOSAL_CREATED, payload);
+        } else {
+            publish(freelancerTopic(event.freelancerId()), PROPOSAL_STATUS, payload);
+        }
+    }
+
+    // Keeps proxies from closing idle streams and drops connections whose client has gone away. The
+    // writes run in batches on the notification pool, so a slow client never holds up the shared
+    // scheduler thread the other @Scheduled jobs run on.
+    @Scheduled(fixedDelayString = "${freelanza.notifications.heartbeat-ms:25000}")
+    public void heartbeat() {
+        List<Map.Entry<String, SseEmitter>> batch = new ArrayList<>(HEARTBEAT_BATCH_SIZE);
+        for (Map.Entry<String, Set<SseEmitter>> entry : subscribers.entrySet()) {
+            for (SseEmitter emitter : entry.getValue()) {
+                batch.add(Map.entry(entry.getKey(), emitter));
+                if (batch.size() == HEARTBEAT_BATCH_SIZE) {
+                    sendHeartbeats(batch);
+                    batch = new ArrayList<>(HEARTBEAT_BATCH_SIZE);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            sendHeartbeats(batch);
+        }
+    }
+
+    private void sendHeartbeats(List<Map.Entry<String, SseEmitter>> batch) {
+        try {
+            notificationExecutor.execute(() -> {
+                for (Map.Entry<String, SseEmitter> subscriber : batch) {
+                    try {
+                        subscriber.getValue().send(SseEmitter.event().comment("keep-alive"));
+                    } catch (IOException | IllegalStateException e) {
+                        remove(subscriber.getKey(), subscriber.getValue());
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Event delivery is backlogged; these streams get their keep-alive in the next round
+            logger.debug("Notification queue full, skipping {} heartbeat(s)", batch.size());
+        }
+    }
+
+    private ResponseEntity<SseEmitter> subscribe(String topic, String lastEventId) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "30").build();
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        emitter.onCompletion(() -> remove(topic, emitter));
+        emitter.onTimeout(() -> remove(topic, emitter));
+        emitter.onError(e -> remove(topic, emitter));
+
+        List<StreamEvent> missed;
+        boolean resync;
+        String resyncId;
+        synchronized (replayBuffer) {
+            long after = parseSequence(lastEventId);
+            resync = lastEventId != null && (after < 0 || after < oldestSequence());
+            missed = resync || lastEventId == null ? List.of() : eventsAfter(topic, after);
+            // Anything newer than this id reaches the new subscriber live
+            resyncId = epoch + "-" + sequence;
+            // Atomic with remove(), which unmaps a topic once its last subscriber is gone
+            subscribers.compute(topic, (key, emitters) -> {
+                Set<SseEmitter> topicEmitters = emitters == null ? ConcurrentHashMap.newKeySet() : emitters;
+                topicEmitters.add(emitter);
+                return topicEmitters;
+            });
+        }
+
+        try {
+            emitter.send(SseEmitter.event().reconnectTime(reconnectMs).comment("subscribed"));
+            if (resync) {
+                emitter.send(SseEmitter.event().id(resyncId).name(RESYNC).data(""));
+            }
+            for (StreamEvent event : missed) {
+                send(emitter, event);
+            }
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return ResponseEntity.ok().header(HttpHeaders.CACHE_CONTROL, "no-store").body(emitter);
+    }
+
+    private void publish(String topic, String name, ProposalNotification payload) {
+        StreamEvent event;
+        List<SseEmitter> targets;
+        synchronized (replayBuffer) {
+            event = new StreamEvent(++sequence, topic, name, payload);
+            replayBuffer.addLast(event);
+            while (replayBuffer.size() > replayCapacity) {
+                replayBuffer.removeFirst();
+            }
+            Set<SseEmitter> emitters = subscribers.get(topic);
+            targets = emitters == null ? List.of() : new ArrayList<>(emitters);
+        }
+        if (targets.isEmpty()) {
+            return;
+        }
+        try {
+            notificationExecutor.execute(() -> {
+                for (SseEmitter emitter : targets) {
+                    try {
+                        send(emitter, event);
+                    } catch (IOException | IllegalStateException e) {
+                        remove(topic, emitter);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Backlogged: close these streams so the browsers reconnect and replay the event
+            logger.warn("Notification queue full, closing {} stream(s) on {}", targets.size(), topic);
+            targets.forEach(SseEmitter::complete);
+        }
+    }
+
+    private void send(SseEmitter emitter, StreamEvent event) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(epoch + "-" + event.sequence())
+                .name(event.name())
+                .data(event.payload(), MediaType.APPLICATION_JSON));
+    }
+
+    // Removal and unmapping of an emptied topic happen in one atomic step, so a concurrent subscribe()
+    // cannot add its emitter to a set that is no longer mapped
+    private void remove(String topic, SseEmitter emitter) {
+        boolean[] removed = new boolean[1];
+        subscribers.computeIfPresent(topic, (key, emitters) -> {
+            removed[0] = emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+        if (removed[0]) {
+            connections.decrementAndGet();
+        }
+    }
+
+    // Sequence from a Last-Event-ID of this process, or -1 when it is missing, malformed or older
+    private long parseSequence(String lastEventId) {
+        if (lastEventId == null || !lastEventId.startsWith(epoch + "-")) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(epoch.length() + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // Lowest sequence a resume can start after without missing anything
+    private long oldestSequence() {
+        return replayBuffer.isEmpty() ? sequence : replayBuffer.peekFirst().sequence() - 1;
+    }
+
+    private List<StreamEvent> eventsAfter(String topic, long after) {
+        List<StreamEvent> events = new ArrayList<>();
+        for (StreamEvent event : replayBuffer) {
+            if (event.sequence() > after && event.topic().equals(topic)) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    private static String clientTopic(int clientId) {
+        return "client:" + clientId;
+    }
+
+    private static String freelancerTopic(int freelancerId) {
+        return "freelancer:" + freelancerId;
+    }
+
+    private record StreamEvent(long sequence, String topic, String name, ProposalNotification payload) {
+    }
+}
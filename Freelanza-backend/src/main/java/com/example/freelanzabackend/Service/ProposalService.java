@@ -1,20 +1,42 @@
 package com.example.freelanzabackend.Service;
 
+import com.example.freelanzabackend.Config.AuthenticatedUser;
+import com.example.freelanzabackend.Dto.ProposalView;
+import com.example.freelanzabackend.Event.JobSavedEvent;
+import com.example.freelanzabackend.Event.ProposalChangedEvent;
+import com.example.freelanzabackend.Repository.ClientRepository;
 import com.example.freelanzabackend.Repository.FreelancerRepository;
 import com.example.freelanzabackend.Repository.JobRepository;
 import com.example.freelanzabackend.Repository.PropsalRepository;
+import com.example.freelanzabackend.model.Client;
 import com.example.freelanzabackend.model.Freelancer;
 import com.example.freelanzabackend.model.Job;
+import com.example.freelanzabackend.model.JobStatus;
 import com.example.freelanzabackend.model.Proposal;
 import com.example.freelanzabackend.model.ProposalStatus;
+import com.example.freelanzabackend.model.UserRole;
 import org.apache.coyote.Response;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -27,39 +49,207 @@ public class ProposalService {
     private PropsalRepository proposalRepository;
     @Autowired
     private FreelancerRepository freelancerRepository;
+    @Autowired
+    private ClientRepository clientRepository;
+    @Autowired
+    private ClientCounterService clientCounterService;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
 
-    public ResponseEntity<Proposal> applyProposal(int jobId, int freelancerId, Proposal proposal) {
-        try{
-            Optional<Job> jobOptional = jobRepository.findById(jobId);
-            Optional<Freelancer> freelancerOptional = freelancerRepository.findById(freelancerId);
+    // Idempotency-Key -> proposal id, for answering client retries without touching the database
+    private final Cache<String, Integer> appliedKeys;
 
-            if (jobOptional.isPresent() && freelancerOptional.isPresent()) {
-                Job job = jobOptional.get();
-                Freelancer freelancer = freelancerOptional.get();
+    public ProposalService(@Value("${freelanza.proposals.idempotency.ttl-seconds:600}") long idempotencyTtlSeconds,
+                           @Value("${freelanza.proposals.idempotency.max-keys:100000}") long idempotencyMaxKeys) {
+        this.appliedKeys = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(idempotencyTtlSeconds))
+                .maximumSize(idempotencyMaxKeys)
+                .build();
+    }
 
-                proposal.setJob(job);
-                proposal.setFreelancer(freelancer);
-                proposal.setApplicationDate(LocalDate.now());
-                proposal.setStatus(ProposalStatus.PENDING);
-                proposalRepository.save(proposal);
-                return new ResponseEntity<>(proposal, HttpStatus.OK);
+    // A freelancer applies at most once per job; a second application gets 409 with the existing
+    // proposal. Only a retry of a request that already succeeded, recognised by an Idempotency-Key this
+    // node has recorded, gets that proposal back with 200. Concurrent submissions are settled by
+    // uk_proposal_job_freelancer.
+    public ResponseEntity<ProposalView> applyProposal(int jobId, int freelancerId, Proposal proposal, String idempotencyKey) {
+        String cacheKey = idempotencyKey == null || idempotencyKey.isBlank()
+                ? null : freelancerId + ":" + jobId + ":" + idempotencyKey;
+        Optional<ProposalView> replayed = replay(cacheKey);
+        if (replayed.isPresent()) {
+            return new ResponseEntity<>(replayed.get(), HttpStatus.OK);
+        }
 
-            } else {
-                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        ResponseEntity<ProposalView> response;
+        try {
+            response = new TransactionTemplate(transactionManager)
+                    .execute(status -> insertProposal(jobId, freelancerId, proposal));
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent submission for the same job and freelancer committed first, possibly this
+            // request's own earlier attempt
+            replayed = replay(cacheKey);
+            if (replayed.isPresent()) {
+                return new ResponseEntity<>(replayed.get(), HttpStatus.OK);
             }
-        }
-        catch (Exception e){
+            // Read in a write transaction so it runs on the primary, where the winning row is committed
+            Optional<ProposalView> existing = new TransactionTemplate(transactionManager)
+                    .execute(status -> proposalRepository.findViewByJobIdAndFreelancerId(jobId, freelancerId));
+            if (existing == null || existing.isEmpty()) {
+                return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+            }
+            return new ResponseEntity<>(existing.get(), HttpStatus.CONFLICT);
+        } catch (Exception e) {
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
         }
 
+        if (cacheKey != null && response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
+            appliedKeys.put(cacheKey, response.getBody().getProposalId());
+        }
+        return response;
+    }
+
+    // The proposal created earlier under this key, read from the primary
+    private Optional<ProposalView> replay(String cacheKey) {
+        Integer knownProposalId = cacheKey == null ? null : appliedKeys.getIfPresent(cacheKey);
+        if (knownProposalId == null) {
+            return Optional.empty();
+        }
+        Optional<ProposalView> known = new TransactionTemplate(transactionManager)
+                .execute(status -> proposalRepository.findViewById(knownProposalId));
+        return known == null ? Optional.empty() : known;
+    }
+
+    private ResponseEntity<ProposalView> insertProposal(int jobId, int freelancerId, Proposal proposal) {
+        Optional<Proposal> existing = proposalRepository.findByJob_JobIdAndFreelancer_FreelancerId(jobId, freelancerId);
+        if (existing.isPresent()) {
+            return new ResponseEntity<>(ProposalView.from(existing.get()), HttpStatus.CONFLICT);
+        }
+        Optional<Job> jobOptional = jobRepository.findById(jobId);
+        Optional<Freelancer> freelancerOptional = freelancerRepository.findById(freelancerId);
+        if (jobOptional.isEmpty() || freelancerOptional.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        Job job = jobOptional.get();
+
+        proposal.setProposalId(0);
+        proposal.setVersion(null);
+        proposal.setJob(job);
+        proposal.setFreelancer(freelancerOptional.get());
+        proposal.setApplicationDate(LocalDate.now());
+        proposal.setStatus(ProposalStatus.PENDING);
+        // Flushed here so a duplicate fails inside this method rather than at commit
+        proposalRepository.saveAndFlush(proposal);
+        clientCounterService.adjust(job.getClient().getClientId(), 0, 0, 1, 0);
+        eventPublisher.publishEvent(changedEvent(proposal, true));
+        return new ResponseEntity<>(ProposalView.from(proposal), HttpStatus.OK);
+    }
+
+    // Accepts one proposal, rejects every other pending proposal on the job and completes the job,
+    // all in one transaction. Status updates are flushed as a JDBC batch with version checks.
+    @Transactional
+    public ResponseEntity<ProposalView> acceptProposal(int proposalId, AuthenticatedUser caller) {
+        Optional<Proposal> proposalOptional = proposalRepository.findById(proposalId);
+        if (proposalOptional.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        Proposal accepted = proposalOptional.get();
+        Job job = accepted.getJob();
+        Integer callerClientId = callerClientId(caller);
+        if (callerClientId == null || job.getClient().getClientId() != callerClientId) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+        if (accepted.getStatus() != ProposalStatus.PENDING || job.getStatus() != JobStatus.ACTIVE) {
+            return new ResponseEntity<>(HttpStatus.CONFLICT);
+        }
+
+        List<Proposal> resolved = new ArrayList<>();
+        for (Proposal proposal : proposalRepository.findByJob_JobId(job.getJobId())) {
+            if (proposal.getStatus() != ProposalStatus.PENDING) {
+                continue;
+            }
+            proposal.setStatus(proposal.getProposalId() == proposalId ? ProposalStatus.ACCEPTED : ProposalStatus.REJECTED);
+            resolved.add(proposal);
+        }
+        job.setStatus(JobStatus.COMPLETED);
+
+        try {
+            proposalRepository.flush();
+        } catch (OptimisticLockingFailureException e) {
+            // Another request changed this job or one of its proposals first
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return new ResponseEntity<>(HttpStatus.CONFLICT);
+        }
+        clientCounterService.adjust(job.getClient().getClientId(), 0, -1, -resolved.size(), 1);
+        eventPublisher.publishEvent(new JobSavedEvent(job));
+        resolved.forEach(proposal -> eventPublisher.publishEvent(changedEvent(proposal, false)));
+        return new ResponseEntity<>(ProposalView.from(accepted), HttpStatus.OK);
+    }
+
+    // Rejects many pending proposals at once; returns how many were rejected. Every proposal must be on
+    // one of the caller's jobs, otherwise nothing is rejected.
+    @Transactional
+    public ResponseEntity<Integer> rejectProposals(List<Integer> proposalIds, AuthenticatedUser caller) {
+        Integer callerClientId = callerClientId(caller);
+        if (callerClientId == null) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+        List<Proposal> proposals = proposalRepository.findAllWithJobByIdIn(proposalIds);
+        for (Proposal proposal : proposals) {
+            if (proposal.getJob().getClient().getClientId() != callerClientId) {
+                return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+            }
+        }
+
+        Map<Integer, Integer> rejectedByClient = new HashMap<>();
+        List<Proposal> rejectedProposals = new ArrayList<>();
+        for (Proposal proposal : proposals) {
+            if (proposal.getStatus() != ProposalStatus.PENDING) {
+                continue;
+            }
+            proposal.setStatus(ProposalStatus.REJECTED);
+            rejectedByClient.merge(proposal.getJob().getClient().getClientId(), 1, Integer::sum);
+            rejectedProposals.add(proposal);
+        }
+
+        try {
+            proposalRepository.flush();
+        } catch (OptimisticLockingFailureException e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return new ResponseEntity<>(HttpStatus.CONFLICT);
+        }
+        rejectedByClient.forEach((clientId, count) -> clientCounterService.adjust(clientId, 0, 0, -count, 0));
+        rejectedProposals.forEach(proposal -> eventPublisher.publishEvent(changedEvent(proposal, false)));
+        int rejected = rejectedByClient.values().stream().mapToInt(Integer::intValue).sum();
+        return new ResponseEntity<>(rejected, HttpStatus.OK);
+    }
+
+    // Client id of the caller, or null for freelancers and anonymous requests. Tokens issued before the
+    // profile id was embedded fall back to the cached email lookup.
+    private Integer callerClientId(AuthenticatedUser caller) {
+        if (caller == null || caller.getRole() == UserRole.FREELANCER) {
+            return null;
+        }
+        if (caller.getProfileId() != null && caller.getRole() == UserRole.CLIENT) {
+            return caller.getProfileId();
+        }
+        return clientRepository.findCachedByEmail(caller.getUsername()).map(Client::getClientId).orElse(null);
+    }
+
+    private static ProposalChangedEvent changedEvent(Proposal proposal, boolean created) {
+        Job job = proposal.getJob();
+        return new ProposalChangedEvent(proposal.getProposalId(), job.getJobId(), job.getJobTitle(),
+                job.getClient().getClientId(), proposal.getFreelancer().getFreelancerId(), proposal.getStatus(), created);
     }
 
-    public List<Proposal> getProposalsByFreelancer(int freelancerId) {
-            return proposalRepository.findByFreelancer_FreelancerId(freelancerId);
+    @Transactional(readOnly = true)
+    public List<ProposalView> getProposalsByFreelancer(int freelancerId) {
+            return proposalRepository.findViewsByFreelancerId(freelancerId);
     }
-    public ResponseEntity<List<Proposal>> getProposalsByClient(int clientId) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<ProposalView>> getProposalsByClient(int clientId) {
         try{
-            List<Proposal> proposals =proposalRepository.findByJob_Client_ClientId(clientId);
+            List<ProposalView> proposals =proposalRepository.findViewsByClientId(clientId);
             if (proposals.isEmpty()) {
                 return new ResponseEntity<>(HttpStatus.NOT_FOUND);
             }
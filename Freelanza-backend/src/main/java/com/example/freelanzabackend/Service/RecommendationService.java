@@ -0,0 +1,422 @@
+package com.example.freelanzabackend.Service;
+
+import com.example.freelanzabackend.Dto.RecommendedJob;
+import com.example.freelanzabackend.Event.FreelancerSavedEvent;
+import com.example.freelanzabackend.Event.JobSavedEvent;
+import com.example.freelanzabackend.Repository.FreelancerRepository;
+import com.example.freelanzabackend.Repository.JobRepository;
+import com.example.freelanzabackend.model.Freelancer;
+import com.example.freelanzabackend.model.Job;
+import com.example.freelanzabackend.model.JobStatus;
+import com.example.freelanzabackend.model.Skill;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Keeps a ranked top-K of ACTIVE jobs per freelancer. Jobs and freelancers are indexed by skill id,
+// so a new job only rescores freelancers sharing one of its skills and a profile update only rescores
+// jobs sharing one of the freelancer's skills. Reads return a precomputed immutable list.
+// The index lives in this node's memory and the save events only reach the node that did the write,
+// so a periodic refresh also re-reads the jobs and freelancers written since the last one (by
+// updated_at); other nodes' writes show up here within the refresh interval.
+@Service
+public class RecommendationService {
+    private static final Logger logger = LoggerFactory.getLogger(RecommendationService.class);
+
+    private static final double SKILL_WEIGHT = 0.6;
+    private static final double RATE_WEIGHT = 0.25;
+    private static final double RECENCY_WEIGHT = 0.15;
+    private static final double RECENCY_HALF_LIFE_DAYS = 7.0;
+
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private FreelancerRepository freelancerRepository;
+
+    @Value("${freelanza.recommendations.top-k:50}")
+    private int topK;
+    // How far each refresh reaches back before the previous one started. Covers transactions that
+    // commit after the refresh that would have seen them and clock skew between nodes.
+    @Value("${freelanza.recommendations.refresh-overlap-ms:120000}")
+    private long refreshOverlapMs;
+
+    private record JobProfile(int jobId, String jobTitle, String category, int minBudget, int maxBudget,
+                              LocalDate postedDate, Set<Integer> skillIds) {
+    }
+
+    private record FreelancerProfile(int freelancerId, float hourlyRate, Set<Integer> skillIds) {
+    }
+
+    // Guarded by lock rather than synchronized, so a virtual thread waiting here does not pin its carrier
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Integer, JobProfile> activeJobs = new HashMap<>();
+    private final Map<Integer, Set<Integer>> jobsBySkill = new HashMap<>();
+    private final Map<Integer, FreelancerProfile> freelancers = new HashMap<>();
+    private final Map<Integer, Set<Integer>> freelancersBySkill = new HashMap<>();
+    // Incremental updates applied while a rebuild runs its queries; null when no rebuild is running
+    private List<Runnable> missedUpdates;
+    // When the last rebuild or refresh started reading; null until the warm-up has run
+    private volatile Instant refreshedUpTo;
+
+    // Read without locking; every value is an immutable list sorted by score descending
+    private final Map<Integer, List<RecommendedJob>> recommendations = new ConcurrentHashMap<>();
+
+    public ResponseEntity<List<RecommendedJob>> getRecommendedJobs(int freelancerId) {
+        return new ResponseEntity<>(recommendations.getOrDefault(freelancerId, List.of()), HttpStatus.OK);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    // Full rebuild once a day so the recency component of stored scores does not drift
+    @Scheduled(cron = "${freelanza.recommendations.rebuild-cron:0 0 3 * * *}")
+    public void rebuild() {
+        lock.lock();
+        try {
+            if (missedUpdates != null) {
+                logger.info("Recommendation rebuild already running, skipping");
+                return;
+            }
+            missedUpdates = new ArrayList<>();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            Instant started = Instant.now();
+            // Queries run before taking the lock so incremental updates are not held up by database I/O
+            Map<Integer, Set<Integer>> jobSkills = groupPairs(jobRepository.findSkillIdsByStatus(JobStatus.ACTIVE));
+            List<Object[]> jobRows = jobRepository.findRecommendationRowsByStatus(JobStatus.ACTIVE);
+            Map<Integer, Set<Integer>> freelancerSkills = groupPairs(freelancerRepository.findAllSkillIds());
+            List<Object[]> freelancerRows = freelancerRepository.findRecommendationRows();
+
+            lock.lock();
+            try {
+                activeJobs.clear();
+                jobsBySkill.clear();
+                freelancers.clear();
+                freelancersBySkill.clear();
+
+                for (Object[] row : jobRows) {
+                    int jobId = (Integer) row[0];
+                    indexJob(new JobProfile(jobId, (String) row[1], (String) row[2], (Integer) row[3], (Integer) row[4],
+                            (LocalDate) row[5], jobSkills.getOrDefault(jobId, Set.of())));
+                }
+                for (Object[] row : freelancerRows) {
+                    int freelancerId = (Integer) row[0];
+                    indexFreelancer(new FreelancerProfile(freelancerId, (Float) row[1],
+                            freelancerSkills.getOrDefault(freelancerId, Set.of())));
+                }
+                // Updates that arrived while the queries ran may be missing from the snapshot. Each one
+                // sets an absolute state, so replaying them in order is safe even where the snapshot
+                // already had them.
+                missedUpdates.forEach(Runnable::run);
+
+                recommendations.clear();
+                for (FreelancerProfile freelancer : freelancers.values()) {
+                    recompute(freelancer);
+                }
+                logger.info("Recommendations rebuilt for {} freelancers over {} active jobs ({} updates replayed)",
+                        freelancers.size(), activeJobs.size(), missedUpdates.size());
+            } finally {
+                lock.unlock();
+            }
+            refreshedUpTo = started;
+        } finally {
+            lock.lock();
+            try {
+                missedUpdates = null;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // Picks up jobs and freelancers written since the last refresh, including writes made on other
+    // nodes. Rows this node already indexed from its own save events are unchanged and skipped.
+    @Scheduled(fixedDelayString = "${freelanza.recommendations.refresh-ms:60000}",
+            initialDelayString = "${freelanza.recommendations.refresh-initial-delay-ms:60000}")
+    public void refresh() {
+        Instant previous = refreshedUpTo;
+        if (previous == null) {
+            return;
+        }
+        Instant started = Instant.now();
+        Instant since = previous.minus(Duration.ofMillis(refreshOverlapMs));
+
+        Map<Integer, Set<Integer>> jobSkills = groupPairs(jobRepository.findSkillIdsUpdatedSince(since));
+        List<Object[]> jobRows = jobRepository.findRecommendationRowsUpdatedSince(since);
+        Map<Integer, Set<Integer>> freelancerSkills = groupPairs(freelancerRepository.findSkillIdsUpdatedSince(since));
+        List<Object[]> freelancerRows = freelancerRepository.findRecommendationRowsUpdatedSince(since);
+
+        for (Object[] row : jobRows) {
+            int jobId = (Integer) row[0];
+            JobProfile profile = row[6] != JobStatus.ACTIVE ? null : new JobProfile(jobId, (String) row[1],
+                    (String) row[2], (Integer) row[3], (Integer) row[4], (LocalDate) row[5],
+                    jobSkills.getOrDefault(jobId, Set.of()));
+            apply(() -> {
+                if (!Objects.equals(activeJobs.get(jobId), profile)) {
+                    saveJob(jobId, profile);
+                }
+            });
+        }
+        for (Object[] row : freelancerRows) {
+            int freelancerId = (Integer) row[0];
+            FreelancerProfile profile = new FreelancerProfile(freelancerId, (Float) row[1],
+                    freelancerSkills.getOrDefault(freelancerId, Set.of()));
+            apply(() -> {
+                if (!profile.equals(freelancers.get(freelancerId))) {
+                    saveFreelancer(profile);
+                }
+            });
+        }
+        refreshedUpTo = started;
+        logger.debug("Recommendation refresh read {} jobs and {} freelancers written since {}",
+                jobRows.size(), freelancerRows.size(), since);
+    }
+
+    // Runs once the job's transaction has committed; only freelancers sharing a skill with it are rescored
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobSaved(JobSavedEvent event) {
+        onJobSaved(event.job());
+    }
+
+    public void onJobSaved(Job job) {
+        // May initialize the lazy skill collection, so done before taking the lock
+        JobProfile profile = job.getStatus() != JobStatus.ACTIVE ? null : new JobProfile(job.getJobId(),
+                job.getJobTitle(), job.getCategory(), job.getMinBudget(), job.getMaxBudget(), job.getPostedDate(),
+                skillIds(job.getSkills()));
+        int jobId = job.getJobId();
+        apply(() -> saveJob(jobId, profile));
+    }
+
+    // Called when a job stops being ACTIVE; affected lists are refilled from the remaining candidates
+    public void onJobClosed(int jobId) {
+        apply(() -> closeJob(jobId));
+    }
+
+    // Runs once the profile update has committed, so a rolled-back update never reaches the index;
+    // rescores only jobs sharing one of the freelancer's skills
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFreelancerSaved(FreelancerSavedEvent event) {
+        onFreelancerSaved(event.freelancer());
+    }
+
+    public void onFreelancerSaved(Freelancer freelancer) {
+        FreelancerProfile profile = new FreelancerProfile(freelancer.getFreelancerId(), freelancer.getHourlyRate(),
+                skillIds(freelancer.getSkills()));
+        apply(() -> saveFreelancer(profile));
+    }
+
+    // Applies an incremental update to the live index and, while a rebuild is reading its snapshot,
+    // also keeps it for replay on the rebuilt index
+    private void apply(Runnable update) {
+        lock.lock();
+        try {
+            update.run();
+            if (missedUpdates != null) {
+                missedUpdates.add(update);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // profile is null when the job is no longer ACTIVE
+    private void saveJob(int jobId, JobProfile profile) {
+        closeJob(jobId);
+        if (profile == null) {
+            return;
+        }
+        indexJob(profile);
+        for (int freelancerId : candidates(profile.skillIds(), freelancersBySkill)) {
+            FreelancerProfile freelancer = freelancers.get(freelancerId);
+            offer(freelancer.freelancerId(), toRecommendation(profile, score(freelancer, profile)));
+        }
+    }
+
+    private void closeJob(int jobId) {
+        JobProfile profile = activeJobs.remove(jobId);
+        if (profile == null) {
+            return;
+        }
+        for (int skillId : profile.skillIds()) {
+            removeFromIndex(jobsBySkill, skillId, jobId);
+        }
+        for (int freelancerId : candidates(profile.skillIds(), freelancersBySkill)) {
+            List<RecommendedJob> current = recommendations.get(freelancerId);
+            if (current != null && current.stream().anyMatch(r -> r.getJobId() == jobId)) {
+                recompute(freelancers.get(freelancerId));
+            }
+        }
+    }
+
+    private void saveFreelancer(FreelancerProfile profile) {
+        FreelancerProfile previous = freelancers.remove(profile.freelancerId());
+        if (previous != null) {
+            for (int skillId : previous.skillIds()) {
+                removeFromIndex(freelancersBySkill, skillId, previous.freelancerId());
+            }
+        }
+        indexFreelancer(profile);
+        recompute(profile);
+    }
+
+    private void recompute(FreelancerProfile freelancer) {
+        PriorityQueue<RecommendedJob> best = new PriorityQueue<>(Comparator.comparingDouble(RecommendedJob::getScore));
+        for (int jobId : candidates(freelancer.skillIds(), jobsBySkill)) {
+            JobProfile job = activeJobs.get(jobId);
+            best.add(toRecommendation(job, score(freelancer, job)));
+            if (best.size() > topK) {
+                best.poll();
+            }
+        }
+        List<RecommendedJob> ranked = new ArrayList<>(best);
+        ranked.sort(Comparator.comparingDouble(RecommendedJob::getScore).reversed());
+        store(freelancer.freelancerId(), ranked);
+    }
+
+    // Inserts one scored job into an existing top-K list if it ranks high enough
+    private void offer(int freelancerId, RecommendedJob candidate) {
+        List<RecommendedJob> current = recommendations.getOrDefault(freelancerId, List.of());
+        if (current.size() >= topK && candidate.getScore() <= current.get(current.size() - 1).getScore()) {
+            return;
+        }
+        List<RecommendedJob> ranked = new ArrayList<>(current.size() + 1);
+        boolean inserted = false;
+        for (RecommendedJob existing : current) {
+            if (!inserted && candidate.getScore() > existing.getScore()) {
+                ranked.add(candidate);
+                inserted = true;
+            }
+            ranked.add(existing);
+        }
+        if (!inserted) {
+            ranked.add(candidate);
+        }
+        if (ranked.size() > topK) {
+            ranked.remove(ranked.size() - 1);
+        }
+        store(freelancerId, ranked);
+    }
+
+    private void store(int freelancerId, List<RecommendedJob> ranked) {
+        if (ranked.isEmpty()) {
+            recommendations.remove(freelancerId);
+        } else {
+            recommendations.put(freelancerId, List.copyOf(ranked));
+        }
+    }
+
+    private double score(FreelancerProfile freelancer, JobProfile job) {
+        double skillScore = 0;
+        if (!job.skillIds().isEmpty()) {
+            int overlap = 0;
+            for (int skillId : job.skillIds()) {
+                if (freelancer.skillIds().contains(skillId)) {
+                    overlap++;
+                }
+            }
+            skillScore = (double) overlap / job.skillIds().size();
+        }
+        return SKILL_WEIGHT * skillScore
+                + RATE_WEIGHT * rateFit(freelancer.hourlyRate(), job.minBudget(), job.maxBudget())
+                + RECENCY_WEIGHT * recency(job.postedDate());
+    }
+
+    // 1 when the rate falls inside the job's budget range, decaying with relative distance outside it
+    private static double rateFit(float hourlyRate, int minBudget, int maxBudget) {
+        if (hourlyRate <= 0 || maxBudget <= 0) {
+            return 0.5;
+        }
+        double low = Math.min(minBudget, maxBudget);
+        double high = Math.max(minBudget, maxBudget);
+        if (hourlyRate >= low && hourlyRate <= high) {
+            return 1.0;
+        }
+        double distance = hourlyRate < low ? low - hourlyRate : hourlyRate - high;
+        return Math.max(0.0, 1.0 - distance / Math.max(hourlyRate, high));
+    }
+
+    private static double recency(LocalDate postedDate) {
+        if (postedDate == null) {
+            return 0.0;
+        }
+        long ageDays = Math.max(0, ChronoUnit.DAYS.between(postedDate, LocalDate.now()));
+        return Math.pow(0.5, ageDays / RECENCY_HALF_LIFE_DAYS);
+    }
+
+    private static RecommendedJob toRecommendation(JobProfile job, double score) {
+        return new RecommendedJob(job.jobId(), job.jobTitle(), job.category(), job.minBudget(), job.maxBudget(),
+                job.postedDate(), score);
+    }
+
+    private void indexJob(JobProfile job) {
+        activeJobs.put(job.jobId(), job);
+        for (int skillId : job.skillIds()) {
+            jobsBySkill.computeIfAbsent(skillId, k -> new HashSet<>()).add(job.jobId());
+        }
+    }
+
+    private void indexFreelancer(FreelancerProfile freelancer) {
+        freelancers.put(freelancer.freelancerId(), freelancer);
+        for (int skillId : freelancer.skillIds()) {
+            freelancersBySkill.computeIfAbsent(skillId, k -> new HashSet<>()).add(freelancer.freelancerId());
+        }
+    }
+
+    private static Set<Integer> candidates(Set<Integer> skillIds, Map<Integer, Set<Integer>> index) {
+        Set<Integer> ids = new HashSet<>();
+        for (int skillId : skillIds) {
+            ids.addAll(index.getOrDefault(skillId, Set.of()));
+        }
+        return ids;
+    }
+
+    private static void removeFromIndex(Map<Integer, Set<Integer>> index, int skillId, int id) {
+        Set<Integer> ids = index.get(skillId);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                index.remove(skillId);
+            }
+        }
+    }
+
+    private static Set<Integer> skillIds(Collection<Skill> skills) {
+        Set<Integer> ids = new HashSet<>();
+        if (skills != null) {
+            for (Skill skill : skills) {
+                ids.add(skill.getSkillId());
+            }
+        }
+        return ids;
+    }
+
+    private static Map<Integer, Set<Integer>> groupPairs(List<Object[]> rows) {
+        Map<Integer, Set<Integer>> grouped = new HashMap<>();
+        for (Object[] row : rows) {
+            grouped.computeIfAbsent((Integer) row[0], k -> new HashSet<>()).add((Integer) row[1]);
+        }
+        return grouped;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.freelanzabackend.Service;
+
+import com.example.freelanzabackend.Event.RegistrationQueuedEvent;
+import com.example.freelanzabackend.Repository.RegistrationOutboxRepository;
+import com.example.freelanzabackend.model.OutboxStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+// Drains the registration outbox: new rows are handed to the registration pool as soon as their
+// transaction commits, and a periodic sweep picks up retries and anything dropped on the way
+// (full pool, crash between commit and hand-off).
+@Service
+public class RegistrationOutboxWorker {
+    private static final Logger logger = LoggerFactory.getLogger(RegistrationOutboxWorker.class);
+
+    @Autowired
+    private RegistrationService registrationService;
+    @Autowired
+    private RegistrationOutboxRepository outboxRepository;
+    @Autowired
+    @Qualifier("registrationExecutor")
+    private ThreadPoolTaskExecutor registrationExecutor;
+
+    @Value("${freelanza.registration.outbox.batch-size:100}")
+    private int batchSize;
+    @Value("${freelanza.registration.outbox.retention-days:7}")
+    private int retentionDays;
+
+    @TransactionalEventListener
+    public void onRegistrationQueued(RegistrationQueuedEvent event) {
+        try {
+            registrationExecutor.execute(() -> process(event.outboxId()));
+        } catch (RejectedExecutionException e) {
+            logger.debug("Registration pool full, outbox row {} left to the sweep", event.outboxId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${freelanza.registration.outbox.poll-interval-ms:5000}")
+    public void sweep() {
+        List<Long> due = outboxRepository.findDueIds(OutboxStatus.PENDING, Instant.now(), PageRequest.of(0, batchSize));
+        for (Long outboxId : due) {
+            process(outboxId);
+        }
+    }
+
+    @Scheduled(cron = "${freelanza.registration.outbox.cleanup-cron:0 30 3 * * *}")
+    @Transactional
+    public void deleteProcessed() {
+        int deleted = outboxRepository.deleteProcessedBefore(OutboxStatus.DONE,
+                Instant.now().minus(Duration.ofDays(retentionDays)));
+        if (deleted > 0) {
+            logger.info("Removed {} processed registration outbox rows", deleted);
+        }
+    }
+
+    private void process(long outboxId) {
+        try {
+            registrationService.process(outboxId);
+        } catch (Exception e) {
+            try {
+                registrationService.recordFailure(outboxId, e);
+            } catch (Exception recordError) {
+                logger.error("Could not record failure for registration outbox row {}", outboxId, recordError);
+            }
+        }
+    }
+}
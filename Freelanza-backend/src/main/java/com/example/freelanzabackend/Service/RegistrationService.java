@@ -0,0 +1,120 @@
+package com.example.freelanzabackend.Service;
+
+import com.example.freelanzabackend.Event.RegistrationQueuedEvent;
+import com.example.freelanzabackend.Repository.ClientRepository;
+import com.example.freelanzabackend.Repository.FreelancerRepository;
+import com.example.freelanzabackend.Repository.RegistrationOutboxRepository;
+import com.example.freelanzabackend.Repository.UserRepository;
+import com.example.freelanzabackend.model.OutboxStatus;
+import com.example.freelanzabackend.model.RegistrationOutbox;
+import com.example.freelanzabackend.model.UserCredential;
+import com.example.freelanzabackend.model.UserRole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+// Registration is split in two: the credential and an outbox row commit together, and the
+// freelancer/client profile is built afterwards from the outbox, retried until it succeeds.
+@Service
+public class RegistrationService {
+    private static final Logger logger = LoggerFactory.getLogger(RegistrationService.class);
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RegistrationOutboxRepository outboxRepository;
+    @Autowired
+    private FreelancerService freelancerService;
+    @Autowired
+    private ClientService clientService;
+    @Autowired
+    private FreelancerRepository freelancerRepository;
+    @Autowired
+    private ClientRepository clientRepository;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${freelanza.registration.outbox.max-attempts:10}")
+    private int maxAttempts;
+    @Value("${freelanza.registration.outbox.initial-backoff-ms:5000}")
+    private long initialBackoffMs;
+    @Value("${freelanza.registration.outbox.max-backoff-ms:600000}")
+    private long maxBackoffMs;
+
+    // Returns false when the username is already taken; the password must already be hashed.
+    // A concurrent registration of the same username fails on uk_user_credential_username at commit.
+    @Transactional
+    public boolean register(UserCredential user) {
+        if (userRepository.existsByUsername(user.getUsername())) {
+            return false;
+        }
+        userRepository.save(user);
+
+        RegistrationOutbox entry = new RegistrationOutbox();
+        entry.setUsername(user.getUsername());
+        entry.setName(user.getName());
+        entry.setUserRole(user.getUserRole() == UserRole.FREELANCER ? UserRole.FREELANCER : UserRole.CLIENT);
+        Instant now = Instant.now();
+        entry.setCreatedAt(now);
+        entry.setNextAttemptAt(now);
+        outboxRepository.save(entry);
+
+        // Picked up right after commit; the scheduled sweep covers anything this misses
+        eventPublisher.publishEvent(new RegistrationQueuedEvent(entry.getId()));
+        return true;
+    }
+
+    // Builds the profile for one outbox row. Skips rows already done or locked by another worker, and
+    // never creates a second profile for the same username.
+    @Transactional
+    public void process(long outboxId) {
+        Optional<RegistrationOutbox> locked = outboxRepository.lockByIdAndStatus(outboxId, OutboxStatus.PENDING);
+        if (locked.isEmpty()) {
+            return;
+        }
+        RegistrationOutbox entry = locked.get();
+        if (entry.getUserRole() == UserRole.FREELANCER) {
+            if (freelancerRepository.findCachedByEmail(entry.getUsername()).isEmpty()) {
+                freelancerService.createFreelancer(entry.getUsername(), entry.getName());
+            }
+        } else if (clientRepository.findCachedByEmail(entry.getUsername()).isEmpty()) {
+            clientService.createClient(entry.getUsername(), entry.getName());
+        }
+        entry.setStatus(OutboxStatus.DONE);
+        entry.setAttempts(entry.getAttempts() + 1);
+        entry.setLastError(null);
+        entry.setProcessedAt(Instant.now());
+    }
+
+    // Called in a fresh transaction after process() rolled back; schedules the next attempt with
+    // exponential backoff or gives up after max-attempts
+    @Transactional
+    public void recordFailure(long outboxId, Exception error) {
+        Optional<RegistrationOutbox> locked = outboxRepository.lockByIdAndStatus(outboxId, OutboxStatus.PENDING);
+        if (locked.isEmpty()) {
+            return;
+        }
+        RegistrationOutbox entry = locked.get();
+        int attempts = entry.getAttempts() + 1;
+        entry.setAttempts(attempts);
+        String message = String.valueOf(error.getMessage());
+        entry.setLastError(message.length() > 1000 ? message.substring(0, 1000) : message);
+        if (attempts >= maxAttempts) {
+            entry.setStatus(OutboxStatus.FAILED);
+            logger.error("Giving up on profile creation for {} after {} attempts: {}", entry.getUsername(), attempts, message);
+            return;
+        }
+        long backoff = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempts - 1, 20));
+        entry.setNextAttemptAt(Instant.now().plus(Duration.ofMillis(backoff)));
+        logger.warn("Profile creation for {} failed (attempt {}), retrying in {} ms: {}",
+                entry.getUsername(), attempts, backoff, message);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.freelanzabackend.Service;
+
+import com.example.freelanzabackend.Repository.SkillRepository;
+import com.example.freelanzabackend.model.Skill;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class SkillService {
+    @Autowired
+    private SkillRepository skillRepository;
+
+    // Maps skills from a request body onto dictionary rows, creating the missing ones
+    @Transactional
+    public Set<Skill> resolve(Collection<Skill> requested) {
+        Set<String> names = new LinkedHashSet<>();
+        if (requested != null) {
+            for (Skill skill : requested) {
+                if (skill != null && skill.getName() != null && !skill.getName().isBlank()) {
+                    names.add(skill.getName().trim());
+                }
+            }
+        }
+        if (names.isEmpty()) {
+            return new LinkedHashSet<>();
+        }
+
+        Map<String, Skill> byName = new HashMap<>();
+        for (Skill skill : skillRepository.findByNameIn(names)) {
+            byName.put(skill.getName(), skill);
+        }
+        if (byName.size() < names.size()) {
+            for (String name : names) {
+                if (!byName.containsKey(name)) {
+                    skillRepository.insertIfAbsent(name);
+                }
+            }
+            for (Skill skill : skillRepository.findByNameIn(names)) {
+                byName.put(skill.getName(), skill);
+            }
+        }
+
+        Set<Skill> resolved = new LinkedHashSet<>();
+        for (String name : names) {
+            resolved.add(byName.get(name));
+        }
+        return resolved;
+    }
+}
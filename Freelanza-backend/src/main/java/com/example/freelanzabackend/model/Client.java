@@ -1,30 +1,61 @@
 package com.example.freelanzabackend.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.UpdateTimestamp;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Set;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_client_email", columnNames = "email"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "client")
+@NaturalIdCache(region = "client-natural-id")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Client {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "client_seq")
+    @SequenceGenerator(name = "client_seq", sequenceName = "client_seq")
     private int clientId;
     private String name;
+    // Cached email -> id resolution for getClientByEmail, kept in sync by Hibernate on update
+    @NaturalId(mutable = true)
     private String email;
     private String professionalTitle;
+    // Dashboard counters, maintained by ClientCounterService
+    @ColumnDefault("0")
     private Integer totalJobs;
+    @ColumnDefault("0")
+    private Integer activeJobs;
+    @ColumnDefault("0")
+    private Integer pendingProposals;
+    @ColumnDefault("0")
+    private Integer acceptedProposals;
     private LocalDate memberSince;
 
-    @ElementCollection
-    private List<String> skills = new ArrayList<>();
+    @ManyToMany
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "client-skills")
+    @JoinTable(name = "client_skill",
+            joinColumns = @JoinColumn(name = "client_id"),
+            inverseJoinColumns = @JoinColumn(name = "skill_id"),
+            indexes = @Index(name = "idx_client_skill_skill_client", columnList = "skill_id, client_id"))
+    private Set<Skill> skills = new LinkedHashSet<>();
 
     private String location;
     private String bio;
@@ -32,4 +63,11 @@ public class Client {
 
     @OneToMany(mappedBy = "client", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Job> jobs = new ArrayList<>();
+
+    // Bumped by profile edits and by counter changes, so the profile's ETag also moves when its jobs do
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+    @UpdateTimestamp
+    private Instant updatedAt;
 }
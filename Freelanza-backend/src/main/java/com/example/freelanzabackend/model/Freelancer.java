@@ -1,29 +1,55 @@
 package com.example.freelanzabackend.model;
 
-import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
-import jakarta.persistence.Id;
+import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.UpdateTimestamp;
 
-import java.util.List;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 @Data
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_freelancer_email", columnNames = "email"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "freelancer")
+@NaturalIdCache(region = "freelancer-natural-id")
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
 @Setter
 public class Freelancer {
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "freelancer_seq")
+    @SequenceGenerator(name = "freelancer_seq", sequenceName = "freelancer_seq")
     @Id
     private int freelancerId;
     private String name;
+    @NaturalId(mutable = true)
     private String email;
     private String Location;
     private float hourlyRate;
-    private List<String> skills;
+    @ManyToMany
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "freelancer-skills")
+    @JoinTable(name = "freelancer_skill",
+            joinColumns = @JoinColumn(name = "freelancer_id"),
+            inverseJoinColumns = @JoinColumn(name = "skill_id"),
+            indexes = @Index(name = "idx_freelancer_skill_skill_freelancer", columnList = "skill_id, freelancer_id"))
+    private Set<Skill> skills = new LinkedHashSet<>();
     private String bio;
 
+    // ETag / Last-Modified of the profile
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+    @UpdateTimestamp
+    private Instant updatedAt;
+
 
 }
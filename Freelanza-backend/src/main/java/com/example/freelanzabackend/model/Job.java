@@ -3,35 +3,61 @@ package com.example.freelanzabackend.model;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.UpdateTimestamp;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Set;
 
 @Entity
+// Mirrors db/migration, which also adds the GIN index on the generated search_vector column
+@Table(indexes = {
+        @Index(name = "idx_job_status_deadline", columnList = "status, deadline"),
+        @Index(name = "idx_job_status_budget", columnList = "status, min_budget, max_budget"),
+        @Index(name = "idx_job_client_status", columnList = "client_id, status"),
+        @Index(name = "idx_job_posted_date_job", columnList = "posted_date DESC, job_id DESC")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "job")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Job {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_seq")
+    @SequenceGenerator(name = "job_seq", sequenceName = "job_seq")
     private int jobId;
     private String category;
     private String jobTitle;
 
     private LocalDate postedDate;
 
-    private List<String> skills = new ArrayList<>();
+    @ManyToMany
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "job-skills")
+    @JoinTable(name = "job_skill",
+            joinColumns = @JoinColumn(name = "job_id"),
+            inverseJoinColumns = @JoinColumn(name = "skill_id"),
+            indexes = @Index(name = "idx_job_skill_skill_job", columnList = "skill_id, job_id"))
+    private Set<Skill> skills = new LinkedHashSet<>();
 
     private String description;
     private int minBudget;
     private int maxBudget;
     private Integer budget;
-    private String startDate;
-    private String deadline;
+    private LocalDate startDate;
+    // Last day the job is open; JobExpiryService expires ACTIVE jobs once it has passed
+    private LocalDate deadline;
 
     @ManyToOne(fetch = FetchType.EAGER)
     @JsonIgnoreProperties("jobs")
@@ -45,4 +71,13 @@ public class Job {
 
     @Enumerated(EnumType.STRING)
     private JobStatus status=JobStatus.ACTIVE;
+
+    // Optimistic lock: two clients accepting different proposals on the same job cannot both win.
+    // Also the basis of the job's ETag.
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+    // Last-Modified of the job
+    @UpdateTimestamp
+    private Instant updatedAt;
 }
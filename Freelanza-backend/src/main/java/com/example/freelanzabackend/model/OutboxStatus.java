@@ -0,0 +1,7 @@
+package com.example.freelanzabackend.model;
+
+public enum OutboxStatus {
+    PENDING,
+    DONE,
+    FAILED
+}
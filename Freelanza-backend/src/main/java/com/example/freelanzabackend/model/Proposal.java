@@ -3,10 +3,14 @@ package com.example.freelanzabackend.model;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 
 @Entity
+// One proposal per freelancer and job; ProposalService answers a duplicate with the existing proposal
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_proposal_job_freelancer", columnNames = {"job_id", "freelancer_id"}),
+        indexes = @Index(name = "idx_proposal_freelancer", columnList = "freelancer_id"))
 @Data
 @Getter
 @Setter
@@ -15,7 +19,8 @@ import java.time.LocalDate;
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"}) // Ignore Lazy Initialization Issues
 public class Proposal {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "proposal_seq")
+    @SequenceGenerator(name = "proposal_seq", sequenceName = "proposal_seq")
     private int proposalId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -35,4 +40,8 @@ public class Proposal {
 
     @Enumerated(EnumType.STRING)
     private ProposalStatus status = ProposalStatus.PENDING;
+
+    @Version
+    @ColumnDefault("0")
+    private Long version;
 }
@@ -0,0 +1,42 @@
+package com.example.freelanzabackend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+// Profile creation still owed for a registered user. Written in the same transaction as the
+// UserCredential and consumed by RegistrationOutboxWorker.
+@Entity
+@Table(name = "registration_outbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_registration_outbox_username", columnNames = "username"),
+        indexes = @Index(name = "idx_registration_outbox_status_next", columnList = "status, next_attempt_at"))
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegistrationOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "registration_outbox_seq")
+    @SequenceGenerator(name = "registration_outbox_seq", sequenceName = "registration_outbox_seq")
+    private long id;
+
+    @Column(nullable = false)
+    private String username;
+    private String name;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private UserRole userRole;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxStatus status = OutboxStatus.PENDING;
+    private int attempts;
+    @Column(nullable = false)
+    private Instant nextAttemptAt;
+    @Column(length = 1000)
+    private String lastError;
+    private Instant createdAt;
+    private Instant processedAt;
+}
@@ -0,0 +1,40 @@
+package com.example.freelanzabackend.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+// Shared skill dictionary referenced by jobs, freelancers and clients.
+// Serialized as its plain name, so the API keeps exchanging skills as ["React", "Java"].
+@Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "skill")
+@Table(name = "skill", uniqueConstraints = @UniqueConstraint(name = "uk_skill_name", columnNames = "name"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Skill {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "skill_seq")
+    @SequenceGenerator(name = "skill_seq", sequenceName = "skill_seq")
+    private int skillId;
+
+    @JsonValue
+    @Column(nullable = false)
+    private String name;
+
+    public Skill(String name) {
+        this.name = name;
+    }
+
+    // Unresolved skill coming from a request body; SkillService swaps it for the stored row
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static Skill of(String name) {
+        return new Skill(name == null ? null : name.trim());
+    }
+}
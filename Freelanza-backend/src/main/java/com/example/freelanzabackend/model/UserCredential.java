@@ -11,14 +11,17 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_user_credential_username", columnNames = "username"))
 public class UserCredential {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_credential_seq")
+    @SequenceGenerator(name = "user_credential_seq", sequenceName = "user_credential_seq")
     private int id;
     @Transient
     private String name;
+    @Column(nullable = false)
     private String username;
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private String password;
     @Enumerated(EnumType.STRING)
     private UserRole userRole;
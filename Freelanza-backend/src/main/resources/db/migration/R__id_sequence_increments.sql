@@ -0,0 +1,34 @@
+-- Applies freelanza.ids.allocation-size (placeholder idAllocationSize) as the increment of every id
+-- sequence. Flyway re-runs this script whenever the value changes. Hibernate takes the increment
+-- from the database (increment_size_mismatch_strategy=fix), so one nextval reserves
+-- (value - increment, value] on every node. A sequence is moved past the existing rows when its next
+-- block would reach into them.
+DO $$
+DECLARE
+    t          record;
+    increment  bigint := ${idAllocationSize};
+    max_id     bigint;
+    next_value bigint;
+BEGIN
+    IF increment < 1 THEN
+        RAISE EXCEPTION 'freelanza.ids.allocation-size must be positive, got %', increment;
+    END IF;
+    FOR t IN SELECT * FROM (VALUES
+            ('client_seq', 'client', 'client_id'),
+            ('freelancer_seq', 'freelancer', 'freelancer_id'),
+            ('job_seq', 'job', 'job_id'),
+            ('proposal_seq', 'proposal', 'proposal_id'),
+            ('skill_seq', 'skill', 'skill_id'),
+            ('user_credential_seq', 'user_credential', 'id'),
+            ('registration_outbox_seq', 'registration_outbox', 'id')) AS s (seq, tbl, col)
+    LOOP
+        EXECUTE format('ALTER SEQUENCE %I INCREMENT BY %s', t.seq, increment);
+        EXECUTE format('SELECT coalesce(max(%I), 0) FROM %I', t.col, t.tbl) INTO max_id;
+        EXECUTE format('SELECT CASE WHEN is_called THEN last_value + %s ELSE last_value END FROM %I', increment, t.seq)
+            INTO next_value;
+        IF next_value - increment + 1 <= max_id THEN
+            PERFORM setval(t.seq::regclass, max_id + increment, false);
+            RAISE NOTICE 'Moved % past existing % ids (max %)', t.seq, t.tbl, max_id;
+        END IF;
+    END LOOP;
+END $$;
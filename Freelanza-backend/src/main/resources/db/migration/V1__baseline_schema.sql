@@ -0,0 +1,139 @@
+-- Tables and id sequences of the entity model. Also the baseline for databases created by the
+-- former ddl-auto=update: every statement is a no-op on objects that already exist, and columns
+-- added to the entities over time are added here for schemas that predate them.
+
+-- Pooled ids: one nextval hands out a block of 50, matching allocationSize on the entities
+CREATE SEQUENCE IF NOT EXISTS client_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS freelancer_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS job_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS proposal_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS skill_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS user_credential_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS registration_outbox_seq START WITH 1 INCREMENT BY 50;
+
+ALTER SEQUENCE client_seq INCREMENT BY 50;
+ALTER SEQUENCE freelancer_seq INCREMENT BY 50;
+ALTER SEQUENCE job_seq INCREMENT BY 50;
+ALTER SEQUENCE proposal_seq INCREMENT BY 50;
+ALTER SEQUENCE skill_seq INCREMENT BY 50;
+ALTER SEQUENCE user_credential_seq INCREMENT BY 50;
+ALTER SEQUENCE registration_outbox_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS client (
+    client_id          integer NOT NULL PRIMARY KEY,
+    name               varchar(255),
+    email              varchar(255),
+    professional_title varchar(255),
+    total_jobs         integer DEFAULT 0,
+    active_jobs        integer DEFAULT 0,
+    pending_proposals  integer DEFAULT 0,
+    accepted_proposals integer DEFAULT 0,
+    member_since       date,
+    location           varchar(255),
+    bio                varchar(255),
+    ratings            integer,
+    version            bigint DEFAULT 0,
+    updated_at         timestamp(6) with time zone
+);
+
+CREATE TABLE IF NOT EXISTS freelancer (
+    freelancer_id integer NOT NULL PRIMARY KEY,
+    name          varchar(255),
+    email         varchar(255),
+    location      varchar(255),
+    hourly_rate   real NOT NULL,
+    bio           varchar(255),
+    version       bigint DEFAULT 0,
+    updated_at    timestamp(6) with time zone
+);
+
+CREATE TABLE IF NOT EXISTS job (
+    job_id      integer NOT NULL PRIMARY KEY,
+    category    varchar(255),
+    job_title   varchar(255),
+    posted_date date,
+    description varchar(255),
+    min_budget  integer NOT NULL,
+    max_budget  integer NOT NULL,
+    budget      integer,
+    start_date  date,
+    deadline    date,
+    client_id   integer NOT NULL REFERENCES client (client_id),
+    status      varchar(255),
+    version     bigint DEFAULT 0,
+    updated_at  timestamp(6) with time zone
+);
+
+CREATE TABLE IF NOT EXISTS proposal (
+    proposal_id      integer NOT NULL PRIMARY KEY,
+    job_id           integer NOT NULL REFERENCES job (job_id),
+    freelancer_id    integer NOT NULL REFERENCES freelancer (freelancer_id),
+    cover_letter     varchar(255),
+    bid_amount       integer NOT NULL,
+    application_date date,
+    delivery_days    integer NOT NULL,
+    status           varchar(255),
+    version          bigint DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS skill (
+    skill_id integer NOT NULL PRIMARY KEY,
+    name     varchar(255) NOT NULL,
+    CONSTRAINT uk_skill_name UNIQUE (name)
+);
+
+CREATE TABLE IF NOT EXISTS job_skill (
+    job_id   integer NOT NULL REFERENCES job (job_id),
+    skill_id integer NOT NULL REFERENCES skill (skill_id),
+    PRIMARY KEY (job_id, skill_id)
+);
+
+CREATE TABLE IF NOT EXISTS freelancer_skill (
+    freelancer_id integer NOT NULL REFERENCES freelancer (freelancer_id),
+    skill_id      integer NOT NULL REFERENCES skill (skill_id),
+    PRIMARY KEY (freelancer_id, skill_id)
+);
+
+CREATE TABLE IF NOT EXISTS client_skill (
+    client_id integer NOT NULL REFERENCES client (client_id),
+    skill_id  integer NOT NULL REFERENCES skill (skill_id),
+    PRIMARY KEY (client_id, skill_id)
+);
+
+CREATE TABLE IF NOT EXISTS user_credential (
+    id        integer NOT NULL PRIMARY KEY,
+    username  varchar(255) NOT NULL,
+    password  varchar(255) NOT NULL,
+    user_role varchar(255)
+);
+
+CREATE TABLE IF NOT EXISTS registration_outbox (
+    id              bigint NOT NULL PRIMARY KEY,
+    username        varchar(255) NOT NULL,
+    name            varchar(255),
+    user_role       varchar(255) NOT NULL,
+    status          varchar(255) NOT NULL,
+    attempts        integer NOT NULL,
+    next_attempt_at timestamp(6) with time zone NOT NULL,
+    last_error      varchar(1000),
+    created_at      timestamp(6) with time zone,
+    processed_at    timestamp(6) with time zone
+);
+
+-- Columns added after the first release
+ALTER TABLE client ADD COLUMN IF NOT EXISTS active_jobs integer DEFAULT 0;
+ALTER TABLE client ADD COLUMN IF NOT EXISTS pending_proposals integer DEFAULT 0;
+ALTER TABLE client ADD COLUMN IF NOT EXISTS accepted_proposals integer DEFAULT 0;
+ALTER TABLE client ADD COLUMN IF NOT EXISTS version bigint DEFAULT 0;
+ALTER TABLE client ADD COLUMN IF NOT EXISTS updated_at timestamp(6) with time zone;
+ALTER TABLE client ALTER COLUMN total_jobs SET DEFAULT 0;
+ALTER TABLE freelancer ADD COLUMN IF NOT EXISTS version bigint DEFAULT 0;
+ALTER TABLE freelancer ADD COLUMN IF NOT EXISTS updated_at timestamp(6) with time zone;
+ALTER TABLE job ADD COLUMN IF NOT EXISTS version bigint DEFAULT 0;
+ALTER TABLE job ADD COLUMN IF NOT EXISTS updated_at timestamp(6) with time zone;
+ALTER TABLE proposal ADD COLUMN IF NOT EXISTS version bigint DEFAULT 0;
+
+-- Full-text search document for JobSearchRepositoryImpl, kept current by PostgreSQL itself
+ALTER TABLE job ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(job_title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'B')) STORED;
@@ -0,0 +1,140 @@
+-- Brings schemas created by earlier versions of the entities up to the current model. Each block
+-- checks for the old shape first, so on a fresh database the whole script does nothing.
+
+-- Ids used to come from IDENTITY columns. Drops the identity default so only the sequences hand out
+-- ids, and moves each sequence past the existing rows. The pooled optimizer hands out
+-- (value - 50, value] for each nextval.
+DO $$
+DECLARE
+    t          record;
+    max_id     bigint;
+    next_value bigint;
+BEGIN
+    FOR t IN SELECT * FROM (VALUES
+            ('client_seq', 'client', 'client_id'),
+            ('freelancer_seq', 'freelancer', 'freelancer_id'),
+            ('job_seq', 'job', 'job_id'),
+            ('proposal_seq', 'proposal', 'proposal_id'),
+            ('skill_seq', 'skill', 'skill_id'),
+            ('user_credential_seq', 'user_credential', 'id'),
+            ('registration_outbox_seq', 'registration_outbox', 'id')) AS s (seq, tbl, col)
+    LOOP
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN %I DROP IDENTITY IF EXISTS', t.tbl, t.col);
+        EXECUTE format('SELECT coalesce(max(%I), 0) FROM %I', t.col, t.tbl) INTO max_id;
+        EXECUTE format('SELECT CASE WHEN is_called THEN last_value + 50 ELSE last_value END FROM %I', t.seq)
+            INTO next_value;
+        IF next_value - 50 + 1 <= max_id THEN
+            PERFORM setval(t.seq::regclass, max_id + 50, false);
+            RAISE NOTICE 'Moved % past existing % ids (max %)', t.seq, t.tbl, max_id;
+        END IF;
+    END LOOP;
+END $$;
+
+-- job.start_date and job.deadline used to be free-form text. Values that do not start with a
+-- YYYY-MM-DD date become NULL.
+CREATE FUNCTION pg_temp.to_date_or_null(value text) RETURNS date AS $$
+BEGIN
+    IF value IS NULL OR substr(trim(value), 1, 10) !~ '^\d{4}-\d{2}-\d{2}$' THEN
+        RETURN NULL;
+    END IF;
+    RETURN substr(trim(value), 1, 10)::date;
+EXCEPTION
+    WHEN datetime_field_overflow OR invalid_datetime_format THEN
+        RETURN NULL;
+END $$ LANGUAGE plpgsql;
+
+DO $$
+DECLARE
+    col     text;
+    cleared bigint;
+BEGIN
+    FOREACH col IN ARRAY ARRAY['start_date', 'deadline']
+    LOOP
+        IF EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_schema = current_schema() AND table_name = 'job'
+                     AND column_name = col AND data_type <> 'date') THEN
+            EXECUTE format('SELECT count(*) FROM job WHERE %I IS NOT NULL AND pg_temp.to_date_or_null(%I) IS NULL',
+                           col, col) INTO cleared;
+            EXECUTE format('ALTER TABLE job ALTER COLUMN %I TYPE date USING pg_temp.to_date_or_null(%I)', col, col);
+            RAISE NOTICE 'Converted job.% to date (% rows cleared)', col, cleared;
+        END IF;
+    END LOOP;
+END $$;
+
+DROP FUNCTION pg_temp.to_date_or_null(text);
+
+-- Hibernate's check constraint on job.status predates the EXPIRED status
+ALTER TABLE job DROP CONSTRAINT IF EXISTS job_status_check;
+
+-- The unique constraint used to sit on user_credential.password, so two users could not share a
+-- hash while usernames could repeat
+DO $$
+DECLARE
+    constraint_name name;
+BEGIN
+    FOR constraint_name IN
+        SELECT c.conname
+        FROM pg_constraint c
+        JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+        WHERE c.conrelid = 'user_credential'::regclass AND c.contype = 'u' AND a.attname = 'password'
+    LOOP
+        EXECUTE format('ALTER TABLE user_credential DROP CONSTRAINT %I', constraint_name);
+        RAISE NOTICE 'Dropped unique constraint % on user_credential.password', constraint_name;
+    END LOOP;
+END $$;
+
+-- Double submissions used to store the same proposal several times. Keeps one row per
+-- (job, freelancer), preferring an accepted one and then the oldest. Dashboard counters are
+-- repaired by the next reconcile run.
+DELETE FROM proposal p
+USING (
+    SELECT proposal_id,
+           row_number() OVER (PARTITION BY job_id, freelancer_id
+                              ORDER BY (status = 'ACCEPTED') DESC, proposal_id) AS position
+    FROM proposal
+) d
+WHERE p.proposal_id = d.proposal_id AND d.position > 1;
+
+-- Skills used to be array columns on job/freelancer or element-collection tables
+-- (job_skills, client_skills). Copies them into the skill dictionary and the join tables; the legacy
+-- columns and tables are left in place.
+DO $$
+DECLARE
+    t     record;
+    links bigint;
+BEGIN
+    FOR t IN SELECT * FROM (VALUES
+            ('job', 'job_id', 'job_skill'),
+            ('freelancer', 'freelancer_id', 'freelancer_skill')) AS s (tbl, id_col, join_tbl)
+    LOOP
+        IF EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_schema = current_schema() AND table_name = t.tbl
+                     AND column_name = 'skills' AND data_type = 'ARRAY') THEN
+            EXECUTE format('INSERT INTO skill (skill_id, name) SELECT nextval(''skill_seq''), name FROM '
+                           '(SELECT DISTINCT trim(s) AS name FROM %I, unnest(skills) AS s WHERE trim(s) <> '''') n '
+                           'ON CONFLICT (name) DO NOTHING', t.tbl);
+            EXECUTE format('INSERT INTO %I (%I, skill_id) SELECT DISTINCT t.%I, k.skill_id '
+                           'FROM %I t, unnest(t.skills) AS s JOIN skill k ON k.name = trim(s) ON CONFLICT DO NOTHING',
+                           t.join_tbl, t.id_col, t.id_col, t.tbl);
+            GET DIAGNOSTICS links = ROW_COUNT;
+            RAISE NOTICE 'Migrated % skill links from %.skills', links, t.tbl;
+        END IF;
+    END LOOP;
+
+    FOR t IN SELECT * FROM (VALUES
+            ('job_skills', 'job_job_id', 'job_skill', 'job_id'),
+            ('client_skills', 'client_client_id', 'client_skill', 'client_id')) AS s (tbl, owner_col, join_tbl, id_col)
+    LOOP
+        IF EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_schema = current_schema() AND table_name = t.tbl AND column_name = 'skills') THEN
+            EXECUTE format('INSERT INTO skill (skill_id, name) SELECT nextval(''skill_seq''), name FROM '
+                           '(SELECT DISTINCT trim(skills) AS name FROM %I WHERE trim(skills) <> '''') n '
+                           'ON CONFLICT (name) DO NOTHING', t.tbl);
+            EXECUTE format('INSERT INTO %I (%I, skill_id) SELECT DISTINCT c.%I, k.skill_id '
+                           'FROM %I c JOIN skill k ON k.name = trim(c.skills) ON CONFLICT DO NOTHING',
+                           t.join_tbl, t.id_col, t.owner_col, t.tbl);
+            GET DIAGNOSTICS links = ROW_COUNT;
+            RAISE NOTICE 'Migrated % skill links from %', links, t.tbl;
+        END IF;
+    END LOOP;
+END $$;
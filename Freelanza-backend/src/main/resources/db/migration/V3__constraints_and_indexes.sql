@@ -0,0 +1,54 @@
+-- Unique constraints and secondary indexes. Runs after the legacy conversions, which rewrite or
+-- clean up the columns involved.
+
+-- Adds a unique constraint unless an equivalent unique index already exists (possibly under a
+-- Hibernate-generated name). Duplicate credentials or profiles left over from older schemas cannot be
+-- merged automatically, so they fail the migration with the offending values listed; the application
+-- relies on these constraints (natural-id lookups, 409 on duplicate registrations and proposals) and
+-- does not start without them. Resolve the duplicates by hand and restart.
+CREATE FUNCTION pg_temp.add_unique(tbl text, constraint_name text, cols text[]) RETURNS void AS $$
+DECLARE
+    column_list text := (SELECT string_agg(quote_ident(c), ', ') FROM unnest(cols) AS c);
+    duplicates  text;
+BEGIN
+    IF EXISTS (
+            SELECT 1
+            FROM pg_index i
+            WHERE i.indrelid = tbl::regclass AND i.indisunique AND i.indpred IS NULL
+              AND i.indnatts = cardinality(cols)
+              AND (SELECT array_agg(a.attname::text ORDER BY a.attname)
+                   FROM pg_attribute a
+                   WHERE a.attrelid = i.indrelid AND a.attnum = ANY (i.indkey))
+                  = (SELECT array_agg(c ORDER BY c) FROM unnest(cols) AS c)) THEN
+        RETURN;
+    END IF;
+    -- NULLs never collide under a unique constraint, so rows with one are left out
+    EXECUTE format('SELECT string_agg(d::text, '', '') FROM (SELECT (%s) AS d FROM %I WHERE (%s) IS NOT NULL '
+                   'GROUP BY %s HAVING count(*) > 1 LIMIT 20) dup', column_list, tbl, column_list, column_list)
+        INTO duplicates;
+    IF duplicates IS NOT NULL THEN
+        RAISE EXCEPTION 'Cannot add %: duplicate %(%) values: %', constraint_name, tbl, column_list, duplicates;
+    END IF;
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I UNIQUE (%s)', tbl, constraint_name, column_list);
+END $$ LANGUAGE plpgsql;
+
+SELECT pg_temp.add_unique('user_credential', 'uk_user_credential_username', ARRAY['username']);
+SELECT pg_temp.add_unique('registration_outbox', 'uk_registration_outbox_username', ARRAY['username']);
+SELECT pg_temp.add_unique('proposal', 'uk_proposal_job_freelancer', ARRAY['job_id', 'freelancer_id']);
+-- Natural ids of the profiles
+SELECT pg_temp.add_unique('client', 'uk_client_email', ARRAY['email']);
+SELECT pg_temp.add_unique('freelancer', 'uk_freelancer_email', ARRAY['email']);
+
+DROP FUNCTION pg_temp.add_unique(text, text, text[]);
+
+-- Expiry sweep (JobExpiryService)
+CREATE INDEX IF NOT EXISTS idx_job_status_deadline ON job (status, deadline);
+-- Search filters and full-text search (JobSearchRepositoryImpl)
+CREATE INDEX IF NOT EXISTS idx_job_status_budget ON job (status, min_budget, max_budget);
+CREATE INDEX IF NOT EXISTS idx_job_search_vector ON job USING GIN (search_vector);
+-- Outbox polling (RegistrationOutboxWorker)
+CREATE INDEX IF NOT EXISTS idx_registration_outbox_status_next ON registration_outbox (status, next_attempt_at);
+-- Skill lookups from the skill side; the primary keys cover the owner side
+CREATE INDEX IF NOT EXISTS idx_job_skill_skill_job ON job_skill (skill_id, job_id);
+CREATE INDEX IF NOT EXISTS idx_freelancer_skill_skill_freelancer ON freelancer_skill (skill_id, freelancer_id);
+CREATE INDEX IF NOT EXISTS idx_client_skill_skill_client ON client_skill (skill_id, client_id);
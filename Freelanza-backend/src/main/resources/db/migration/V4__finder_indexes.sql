@@ -0,0 +1,12 @@
+-- Indexes behind the repository finders that V3 does not cover. Lookups by email and username use
+-- the unique constraints from V3; proposals by job use uk_proposal_job_freelancer.
+-- QueryPlanTest (src/test/java/.../Repository/QueryPlanTest.java) checks that these finders stay off
+-- sequential scans.
+
+-- Jobs of a client and the active-job count (JobRepository.findByClientClientId,
+-- countActiveJobsByClientId, findListItemsByClientId); also the job side of proposals by client
+CREATE INDEX IF NOT EXISTS idx_job_client_status ON job (client_id, status);
+-- Newest-first listing and the keyset-paginated feed
+CREATE INDEX IF NOT EXISTS idx_job_posted_date_job ON job (posted_date DESC, job_id DESC);
+-- Proposals of a freelancer (PropsalRepository.findByFreelancer_FreelancerId, findViewsByFreelancerId)
+CREATE INDEX IF NOT EXISTS idx_proposal_freelancer ON proposal (freelancer_id);
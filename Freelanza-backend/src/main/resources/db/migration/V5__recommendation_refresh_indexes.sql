@@ -0,0 +1,4 @@
+-- The recommendation refresh re-reads jobs and freelancers written since its previous run
+-- (JobRepository/FreelancerRepository.findRecommendationRowsUpdatedSince, findSkillIdsUpdatedSince)
+CREATE INDEX IF NOT EXISTS idx_job_updated_at ON job (updated_at);
+CREATE INDEX IF NOT EXISTS idx_freelancer_updated_at ON freelancer (updated_at);
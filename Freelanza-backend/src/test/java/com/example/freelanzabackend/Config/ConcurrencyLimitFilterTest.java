@@ -0,0 +1,76 @@
+package com.example.freelanzabackend.Config;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Plain unit test on the servlet mocks: a single permit shows whether the previous request still holds it
+class ConcurrencyLimitFilterTest {
+
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, 0);
+
+    @Test
+    void asyncRequestHoldsItsPermitUntilTheCycleCompletes() throws Exception {
+        MockHttpServletRequest request = asyncRequest();
+        filter.doFilter(request, new MockHttpServletResponse(), startAsync());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), plainRequest());
+
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+        assertEquals(HttpStatus.OK.value(), plainRequest());
+        assertEquals(HttpStatus.OK.value(), plainRequest());
+    }
+
+    @Test
+    void timedOutAsyncRequestReleasesItsPermitOnce() throws Exception {
+        MockHttpServletRequest request = asyncRequest();
+        filter.doFilter(request, new MockHttpServletResponse(), startAsync());
+
+        MockAsyncContext async = (MockAsyncContext) request.getAsyncContext();
+        async.getListeners().forEach(listener -> {
+            try {
+                listener.onTimeout(null);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        async.complete();
+
+        // A second release would let two requests in at once
+        MockHttpServletRequest held = asyncRequest();
+        filter.doFilter(held, new MockHttpServletResponse(), startAsync());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), plainRequest());
+    }
+
+    @Test
+    void eventStreamReleasesItsPermitOnceSubscribed() throws Exception {
+        MockHttpServletRequest request = asyncRequest();
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            res.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+            req.startAsync();
+        });
+
+        assertEquals(HttpStatus.OK.value(), plainRequest());
+    }
+
+    private int plainRequest() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/jobs"), response, (req, res) -> { });
+        return response.getStatus();
+    }
+
+    private static MockHttpServletRequest asyncRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jobs");
+        request.setAsyncSupported(true);
+        return request;
+    }
+
+    private static FilterChain startAsync() {
+        return (req, res) -> req.startAsync();
+    }
+}
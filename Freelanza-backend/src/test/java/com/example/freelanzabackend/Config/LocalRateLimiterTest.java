@@ -0,0 +1,84 @@
+package com.example.freelanzabackend.Config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// The limiter math on a hand-driven clock: one token per second, bursts of three
+class LocalRateLimiterTest {
+
+    private static final RateLimitRule RULE = new RateLimitRule("test", 60, Duration.ofMinutes(1), 3);
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    private final LocalRateLimiter limiter = new LocalRateLimiter(100, clock::get);
+
+    @Test
+    void burstIsGrantedAtOnceThenCallersWaitForTheNextToken() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.acquire(RULE, "a"));
+        }
+        assertEquals(1000, limiter.acquire(RULE, "a"));
+
+        advanceMillis(400);
+        assertEquals(600, limiter.acquire(RULE, "a"));
+        // Other keys have buckets of their own
+        assertEquals(0, limiter.acquire(RULE, "b"));
+    }
+
+    @Test
+    void tokensRefillAtTheRuleRateUpToTheBurst() {
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire(RULE, "a");
+        }
+        advanceMillis(1000);
+        assertEquals(0, limiter.acquire(RULE, "a"));
+        assertTrue(limiter.acquire(RULE, "a") > 0);
+
+        // A long pause refills the bucket to the burst, not beyond it
+        advanceMillis(60_000);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.acquire(RULE, "a"));
+        }
+        assertEquals(1000, limiter.acquire(RULE, "a"));
+    }
+
+    @Test
+    void refusedCallsDoNotConsumeTokens() {
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire(RULE, "a");
+        }
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.acquire(RULE, "a") > 0);
+        }
+        advanceMillis(1000);
+        assertEquals(0, limiter.acquire(RULE, "a"));
+    }
+
+    @Test
+    void unlimitedRuleNeverRefuses() {
+        RateLimitRule unlimited = new RateLimitRule("off", 0, Duration.ofMinutes(1), 1);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(0, limiter.acquire(unlimited, "a"));
+        }
+    }
+
+    @Test
+    void newKeysAreRefusedWhileTheBucketTableIsFullOfActiveBuckets() {
+        LocalRateLimiter small = new LocalRateLimiter(1, clock::get);
+        assertEquals(0, small.acquire(RULE, "a"));
+        assertEquals(1000, small.acquire(RULE, "b"));
+
+        // Once "a" has refilled completely its bucket is purged and makes room
+        advanceMillis(1000);
+        assertEquals(0, small.acquire(RULE, "b"));
+    }
+
+    private void advanceMillis(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
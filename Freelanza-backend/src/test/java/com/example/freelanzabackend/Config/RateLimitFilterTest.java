@@ -0,0 +1,57 @@
+package com.example.freelanzabackend.Config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RateLimitFilterTest {
+
+    private static final String APPLY = "/api/proposals/apply/{jobId}/{freelancerId}";
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    private final RateLimitFilter filter = new RateLimitFilter(new LocalRateLimiter(100, clock::get), List.of(
+            new RateLimitFilter.Route(HttpMethod.POST, APPLY,
+                    new RateLimitRule("apply-freelancer", 2, Duration.ofMinutes(1), 1), "freelancerId")));
+
+    @Test
+    void throttledCallerGets429WithRetryAfterInSeconds() throws Exception {
+        assertEquals(HttpStatus.OK.value(), post("/api/proposals/apply/1/7").getStatus());
+
+        MockHttpServletResponse throttled = post("/api/proposals/apply/2/7");
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), throttled.getStatus());
+        assertEquals("30", throttled.getHeader(HttpHeaders.RETRY_AFTER));
+
+        // Rounded up, so a client that waits as told is let through
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(29_500));
+        assertEquals("1", post("/api/proposals/apply/2/7").getHeader(HttpHeaders.RETRY_AFTER));
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertEquals(HttpStatus.OK.value(), post("/api/proposals/apply/2/7").getStatus());
+    }
+
+    @Test
+    void limitsAreKeyedByThePathVariableAndOnlyApplyToMatchingRoutes() throws Exception {
+        post("/api/proposals/apply/1/7");
+        assertEquals(HttpStatus.OK.value(), post("/api/proposals/apply/1/8").getStatus());
+
+        MockHttpServletResponse other = post("/api/jobs/1");
+        assertEquals(HttpStatus.OK.value(), other.getStatus());
+        assertNull(other.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    private MockHttpServletResponse post(String path) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", path), response, (req, res) -> { });
+        return response;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.freelanzabackend.Config;
+
+import com.example.freelanzabackend.EmbeddedPostgresTest;
+import com.example.freelanzabackend.Service.JobService;
+import com.example.freelanzabackend.Service.ProposalService;
+import com.example.freelanzabackend.model.Job;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Read/write split with the replica profile's stand-in: a second pool on the same database whose
+// sessions default to read-only. Which pool served a call is read from Hikari's per-pool acquire
+// timer, so the test sees the routing decision itself rather than its side effects.
+@ActiveProfiles("replica")
+class ReadWriteRoutingTest extends EmbeddedPostgresTest {
+
+    private static final String DATABASE = "read_write_routing";
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registerDatabase(registry, DATABASE);
+        registry.add("freelanza.datasource.replica.url",
+                () -> jdbcUrl(DATABASE) + "&options=-c%20default_transaction_read_only=on");
+        registry.add("freelanza.datasource.replica.username", () -> "postgres");
+    }
+
+    @Autowired
+    private JobService jobService;
+    @Autowired
+    private ProposalService proposalService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeAll
+    static void seed(@Autowired JdbcTemplate jdbc) {
+        jdbc.update("""
+                INSERT INTO client (client_id, name, email, location, ratings, member_since, version)
+                VALUES (1, 'Client 1', 'client1@example.com', 'City', 4, current_date, 0)
+                """);
+    }
+
+    @Test
+    void readOnlyServiceMethodsUseTheReplicaPool() {
+        long primary = acquired("primary");
+        long replica = acquired("replica");
+
+        assertEquals(HttpStatus.OK, jobService.getAllJobs().getStatusCode());
+        proposalService.getProposalsByFreelancer(1);
+        proposalService.getProposalsByClient(1);
+
+        assertEquals(replica + 3, acquired("replica"));
+        assertEquals(primary, acquired("primary"));
+    }
+
+    @Test
+    void writesUseThePrimaryPool() {
+        long primary = acquired("primary");
+        long replica = acquired("replica");
+
+        Job job = new Job();
+        job.setJobTitle("Routing check");
+        job.setCategory("Category");
+        job.setMinBudget(100);
+        job.setMaxBudget(200);
+        job.setDeadline(LocalDate.now().plusDays(30));
+        assertEquals(HttpStatus.CREATED, jobService.createjob(job, 1).getStatusCode());
+
+        assertTrue(acquired("primary") > primary);
+        assertEquals(replica, acquired("replica"));
+    }
+
+    @Test
+    void writeInsideReadOnlyTransactionFailsOnTheReplica() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        long replica = acquired("replica");
+
+        Exception failure = assertThrows(Exception.class, () -> readOnly.executeWithoutResult(status -> {
+            assertEquals("on", jdbcTemplate.queryForObject("SHOW default_transaction_read_only", String.class));
+            jdbcTemplate.update("UPDATE client SET name = 'Renamed' WHERE client_id = 1");
+        }));
+
+        assertTrue(failure.getMessage().contains("read-only transaction"), failure.getMessage());
+        assertEquals(replica + 1, acquired("replica"));
+    }
+
+    private long acquired(String pool) {
+        Timer timer = meterRegistry.find("hikaricp.connections.acquire").tag("pool", pool).timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.freelanzabackend;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
+import java.util.Set;
+
+// Application context against an embedded PostgreSQL (real server binaries, no Docker), migrated by
+// Flyway on startup. One server per test JVM; each test class registers its own database from a
+// @DynamicPropertySource method, so rows seeded by one class never show up in another.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        // Keep background jobs away from the rows a test seeds and inspects
+        "freelanza.jobs.expiry.initial-delay-ms=86400000",
+        "freelanza.dashboard.reconcile-initial-delay-ms=86400000",
+        "freelanza.registration.outbox.poll-interval-ms=86400000",
+        "freelanza.recommendations.refresh-initial-delay-ms=86400000"
+})
+public abstract class EmbeddedPostgresTest {
+
+    private static EmbeddedPostgres postgres;
+    private static final Set<String> databases = new HashSet<>();
+
+    protected static synchronized void registerDatabase(DynamicPropertyRegistry registry, String database) {
+        if (postgres == null) {
+            try {
+                postgres = EmbeddedPostgres.builder().start();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not start embedded PostgreSQL", e);
+            }
+        }
+        if (databases.add(database)) {
+            new JdbcTemplate(postgres.getPostgresDatabase()).execute("CREATE DATABASE " + database);
+        }
+        registry.add("spring.datasource.url", () -> jdbcUrl(database));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    // Carries the user as a query parameter, so further driver options are appended with &
+    protected static String jdbcUrl(String database) {
+        return postgres.getJdbcUrl("postgres", database);
+    }
+}
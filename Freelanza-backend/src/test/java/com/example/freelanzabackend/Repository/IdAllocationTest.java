@@ -0,0 +1,52 @@
+package com.example.freelanzabackend.Repository;
+
+import com.example.freelanzabackend.EmbeddedPostgresTest;
+import com.example.freelanzabackend.model.Skill;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// freelanza.ids.allocation-size drives both the sequence increments and Hibernate's pooled blocks.
+// The mappings keep the JPA default of 50, so a context that starts and inserts with another value
+// shows Hibernate took the increment from the database.
+class IdAllocationTest extends EmbeddedPostgresTest {
+
+    private static final int ALLOCATION_SIZE = 20;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registerDatabase(registry, "id_allocation");
+        registry.add("freelanza.ids.allocation-size", () -> ALLOCATION_SIZE);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Test
+    void sequencesAndMappingsUseTheConfiguredAllocationSize() {
+        List<Long> increments = jdbcTemplate.queryForList(
+                "SELECT increment_by FROM pg_sequences WHERE sequencename LIKE '%\\_seq'", Long.class);
+        assertEquals(7, increments.size());
+        increments.forEach(increment -> assertEquals(ALLOCATION_SIZE, increment));
+
+        List<Skill> saved = skillRepository.saveAll(IntStream.range(0, ALLOCATION_SIZE + 5)
+                .mapToObj(i -> new Skill("Skill " + i))
+                .toList());
+
+        Long lastValue = jdbcTemplate.queryForObject("SELECT last_value FROM skill_seq", Long.class);
+        assertEquals(saved.size(), saved.stream().mapToInt(Skill::getSkillId).distinct().count());
+        // Every id comes from a block the sequence has handed out: (value - increment, value]
+        saved.forEach(skill -> assertTrue(skill.getSkillId() <= lastValue,
+                "id " + skill.getSkillId() + " beyond sequence value " + lastValue));
+    }
+}
@@ -0,0 +1,289 @@
+package com.example.freelanzabackend.Repository;
+
+import com.example.freelanzabackend.Dto.JobFeedFilter;
+import com.example.freelanzabackend.EmbeddedPostgresTest;
+import com.example.freelanzabackend.model.OutboxStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Runs the repository finders against a seeded database, captures the SQL Hibernate actually sends
+// and EXPLAINs it. Fails when a plan reads a whole table above the row threshold, either sequentially
+// or through an index it cannot seek into, so a finder whose index is missing or unusable breaks the
+// build instead of production latency.
+class QueryPlanTest extends EmbeddedPostgresTest {
+
+    private static final long FULL_SCAN_ROW_THRESHOLD = 5000;
+
+    private static final int CLIENTS = 6000;
+    private static final int JOBS_PER_CLIENT = 2;
+    private static final int PROPOSALS_PER_JOB = 3;
+    private static final int FREELANCERS = 6000;
+
+    private static final Set<String> INDEX_SCANS = Set.of("Index Scan", "Index Only Scan", "Bitmap Index Scan");
+
+    private record Finder(String name, Runnable call) {
+    }
+
+    // Sees every statement after the application's own inspector, so what is recorded is what is sent
+    private static final List<String> capturedSql = new CopyOnWriteArrayList<>();
+
+    @TestConfiguration
+    static class CaptureSql {
+        @Bean
+        static BeanPostProcessor capturingStatementInspector() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof HibernatePropertiesCustomizer customizer)) {
+                        return bean;
+                    }
+                    return (HibernatePropertiesCustomizer) properties -> {
+                        customizer.customize(properties);
+                        Object current = properties.get(AvailableSettings.STATEMENT_INSPECTOR);
+                        StatementInspector delegate = current instanceof StatementInspector inspector ? inspector : sql -> sql;
+                        properties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                            String inspected = delegate.inspect(sql);
+                            capturedSql.add(inspected);
+                            return inspected;
+                        });
+                    };
+                }
+            };
+        }
+    }
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registerDatabase(registry, "query_plans");
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private ClientRepository clientRepository;
+    @Autowired
+    private FreelancerRepository freelancerRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private PropsalRepository proposalRepository;
+    @Autowired
+    private SkillRepository skillRepository;
+    @Autowired
+    private RegistrationOutboxRepository registrationOutboxRepository;
+
+    private List<Finder> finders() {
+        return List.of(
+                new Finder("ClientRepository.findByEmail", () -> clientRepository.findByEmail("client1@example.com")),
+                new Finder("ClientRepository.findResourceVersion", () -> clientRepository.findResourceVersion(1)),
+                new Finder("FreelancerRepository.findByEmail", () -> freelancerRepository.findByEmail("freelancer1@example.com")),
+                new Finder("UserRepository.findByUsername", () -> userRepository.findByUsername("user1@example.com")),
+                new Finder("JobRepository.findByClientClientId", () -> jobRepository.findByClientClientId(1)),
+                new Finder("JobRepository.findResourceVersion", () -> jobRepository.findResourceVersion(1)),
+                new Finder("JobRepository.findListItemsByClientId", () -> jobRepository.findListItemsByClientId(1)),
+                new Finder("JobRepository.findSummariesByClientId", () -> jobRepository.findSummariesByClientId(1)),
+                new Finder("JobRepository.countActiveJobsByClientId", () -> jobRepository.countActiveJobsByClientId(1)),
+                new Finder("JobRepository.findSkillsByJobIds", () -> jobRepository.findSkillsByJobIds(List.of(1, 2, 3))),
+                new Finder("JobRepository.findJobFeed", () -> jobRepository.findJobFeed(new JobFeedFilter(), null, 21)),
+                new Finder("PropsalRepository.findByFreelancer_FreelancerId", () -> proposalRepository.findByFreelancer_FreelancerId(1)),
+                new Finder("PropsalRepository.findByJob_Client_ClientId", () -> proposalRepository.findByJob_Client_ClientId(1)),
+                new Finder("PropsalRepository.findByJob_JobId", () -> proposalRepository.findByJob_JobId(1)),
+                new Finder("PropsalRepository.findByJob_JobIdAndFreelancer_FreelancerId",
+                        () -> proposalRepository.findByJob_JobIdAndFreelancer_FreelancerId(1, 1)),
+                new Finder("PropsalRepository.findViewsByFreelancerId", () -> proposalRepository.findViewsByFreelancerId(1)),
+                new Finder("PropsalRepository.findViewsByClientId", () -> proposalRepository.findViewsByClientId(1)),
+                new Finder("PropsalRepository.findAllWithJobByIdIn", () -> proposalRepository.findAllWithJobByIdIn(List.of(1, 2, 3))),
+                new Finder("SkillRepository.findByNameIn", () -> skillRepository.findByNameIn(List.of("Java", "React"))),
+                new Finder("RegistrationOutboxRepository.findDueIds",
+                        () -> registrationOutboxRepository.findDueIds(OutboxStatus.PENDING, Instant.now(), PageRequest.of(0, 100)))
+        );
+    }
+
+    @BeforeAll
+    static void seed(@Autowired JdbcTemplate jdbc) {
+        int jobs = CLIENTS * JOBS_PER_CLIENT;
+        jdbc.update("""
+                INSERT INTO client (client_id, name, email, location, ratings, member_since,
+                                    total_jobs, active_jobs, pending_proposals, accepted_proposals, version)
+                SELECT g, 'Client ' || g, 'client' || g || '@example.com', 'City ' || (g % 50), 1 + g % 5,
+                       current_date - (g % 1000), ?, ?, 0, 0, 0
+                FROM generate_series(1, ?) g
+                """, JOBS_PER_CLIENT, JOBS_PER_CLIENT / 2, CLIENTS);
+        jdbc.update("""
+                INSERT INTO freelancer (freelancer_id, name, email, location, hourly_rate, bio, version)
+                SELECT g, 'Freelancer ' || g, 'freelancer' || g || '@example.com', 'City ' || (g % 50),
+                       10 + g % 90, 'Experienced developer', 0
+                FROM generate_series(1, ?) g
+                """, FREELANCERS);
+        jdbc.update("""
+                INSERT INTO user_credential (id, username, password, user_role)
+                SELECT g, 'user' || g || '@example.com', 'not-a-hash', CASE WHEN g % 2 = 0 THEN 'CLIENT' ELSE 'FREELANCER' END
+                FROM generate_series(1, ?) g
+                """, CLIENTS + FREELANCERS);
+        jdbc.update("""
+                INSERT INTO registration_outbox (id, username, name, user_role, status, attempts, next_attempt_at, created_at)
+                SELECT g, 'user' || g || '@example.com', 'User ' || g, 'CLIENT',
+                       CASE WHEN g % 100 = 0 THEN 'PENDING' ELSE 'DONE' END, 0, now() - interval '1 minute', now()
+                FROM generate_series(1, ?) g
+                """, CLIENTS + FREELANCERS);
+        jdbc.update("""
+                INSERT INTO job (job_id, client_id, job_title, category, description, min_budget, max_budget,
+                                 budget, posted_date, start_date, deadline, status, version)
+                SELECT g, 1 + (g - 1) / ?, 'Job ' || g, 'Category ' || (g % 12), 'Project description text',
+                       100 + g % 900, 1000 + g % 4000, 550 + g % 2450, current_date - (g % 365),
+                       current_date + 7, current_date + 30 + g % 60,
+                       CASE WHEN g % 2 = 0 THEN 'ACTIVE' ELSE 'COMPLETED' END, 0
+                FROM generate_series(1, ?) g
+                """, JOBS_PER_CLIENT, jobs);
+        // Freelancers for one job are consecutive, so (job_id, freelancer_id) stays unique
+        jdbc.update("""
+                INSERT INTO proposal (proposal_id, job_id, freelancer_id, cover_letter, bid_amount,
+                                      application_date, delivery_days, status, version)
+                SELECT g, 1 + (g - 1) / ?, 1 + (g - 1) % ?, 'Cover letter ' || g, 200 + g % 3000,
+                       current_date - (g % 300), 5 + g % 40, 'PENDING', 0
+                FROM generate_series(1, ?) g
+                """, PROPOSALS_PER_JOB, FREELANCERS, jobs * PROPOSALS_PER_JOB);
+        jdbc.execute("ANALYZE");
+    }
+
+    @Test
+    void findersDoNotScanWholeLargeTables() {
+        List<String> violations = new ArrayList<>();
+        for (Finder finder : finders()) {
+            capturedSql.clear();
+            finder.call().run();
+            List<String> statements = List.copyOf(capturedSql);
+            assertFalse(statements.isEmpty(), finder.name() + " sent no SQL");
+            for (String sql : statements) {
+                collectFullScans(finder.name(), explain(sql), false, violations);
+            }
+        }
+        assertTrue(violations.isEmpty(), "Full scans over more than " + FULL_SCAN_ROW_THRESHOLD + " rows: " + violations);
+    }
+
+    // The captured SQL still has its ? placeholders. It is prepared with them as $n, and explained as
+    // the generic plan: the one PostgreSQL falls back to for a statement the driver has prepared, and
+    // independent of the placeholder values, which only have to match the inferred parameter types.
+    private JsonNode explain(String sql) {
+        String plan = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET plan_cache_mode = force_generic_plan");
+                statement.execute("PREPARE finder AS " + numberPlaceholders(sql));
+                try {
+                    try (ResultSet rs = statement.executeQuery("EXPLAIN (FORMAT JSON) EXECUTE finder" + sampleArguments(connection))) {
+                        rs.next();
+                        return rs.getString(1);
+                    }
+                } finally {
+                    statement.execute("DEALLOCATE finder");
+                    statement.execute("RESET plan_cache_mode");
+                }
+            }
+        });
+        try {
+            return objectMapper.readTree(plan).get(0).get("Plan");
+        } catch (IOException e) {
+            throw new IllegalStateException("Unreadable plan for " + sql, e);
+        }
+    }
+
+    private static String numberPlaceholders(String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length() + 16);
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+
+    // A NULL of each parameter's inferred type; the generic plan never looks at the values
+    private static String sampleArguments(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "SELECT parameter_types::text[] FROM pg_prepared_statements WHERE name = 'finder'")) {
+            rs.next();
+            Array types = rs.getArray(1);
+            String[] names = (String[]) types.getArray();
+            if (names.length == 0) {
+                return "";
+            }
+            StringJoiner arguments = new StringJoiner(", ", " (", ")");
+            for (String type : names) {
+                arguments.add("NULL::" + type);
+            }
+            return arguments.toString();
+        }
+    }
+
+    // A scan below a Limit stops early (the keyset feed walks its ordering index that way), so only
+    // unlimited ones count
+    private void collectFullScans(String finder, JsonNode node, boolean limited, List<String> violations) {
+        String type = node.path("Node Type").asText();
+        boolean fullScan = "Seq Scan".equals(type) || (INDEX_SCANS.contains(type) && !seeks(node));
+        if (fullScan && !limited) {
+            String table = node.path("Relation Name").asText();
+            long rows = tableRows(table);
+            if (rows > FULL_SCAN_ROW_THRESHOLD) {
+                violations.add(finder + ": " + type + " on " + table + " (~" + rows + " rows)");
+            }
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectFullScans(finder, child, limited || "Limit".equals(type), violations);
+        }
+    }
+
+    // An index only narrows the scan when its condition constrains the leading column; a condition on
+    // a later column of a composite index is checked against every entry
+    private boolean seeks(JsonNode node) {
+        String condition = node.path("Index Cond").asText("");
+        String leadingColumn = jdbcTemplate.queryForObject(
+                "SELECT pg_get_indexdef(to_regclass(?), 1, true)", String.class, node.path("Index Name").asText());
+        return leadingColumn != null
+                && Pattern.compile("(?<![.\\w])" + Pattern.quote(leadingColumn) + "\\b").matcher(condition).find();
+    }
+
+    private long tableRows(String table) {
+        Long rows = jdbcTemplate.queryForObject(
+                "SELECT coalesce(max(reltuples), 0)::bigint FROM pg_class WHERE oid = to_regclass(?)", Long.class, table);
+        return rows == null ? 0 : rows;
+    }
+}
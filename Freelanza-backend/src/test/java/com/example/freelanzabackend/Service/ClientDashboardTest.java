@@ -0,0 +1,57 @@
+package com.example.freelanzabackend.Service;
+
+import com.example.freelanzabackend.Dto.ClientDashboard;
+import com.example.freelanzabackend.EmbeddedPostgresTest;
+import com.example.freelanzabackend.Repository.ClientRepository;
+import com.example.freelanzabackend.model.Client;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// The counters are changed with plain SQL while the client sits in the second-level cache, the way
+// another node's write or the reconcile job leaves this node's cache entry behind
+class ClientDashboardTest extends EmbeddedPostgresTest {
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registerDatabase(registry, "client_dashboard");
+    }
+
+    @Autowired
+    private ClientCounterService clientCounterService;
+    @Autowired
+    private ClientRepository clientRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void seed(@Autowired JdbcTemplate jdbc) {
+        jdbc.update("""
+                INSERT INTO client (client_id, name, email, location, ratings, member_since,
+                                    total_jobs, active_jobs, pending_proposals, accepted_proposals, version)
+                VALUES (1, 'Client 1', 'client1@example.com', 'City', 4, current_date, 3, 2, 5, 1, 0)
+                """);
+    }
+
+    @Test
+    void dashboardReadsCountersPastTheSecondLevelCache() {
+        clientRepository.findById(1);
+        assertTrue(entityManagerFactory.getCache().contains(Client.class, 1));
+
+        jdbcTemplate.update("UPDATE client SET total_jobs = 4, active_jobs = 3, pending_proposals = 7 WHERE client_id = 1");
+
+        ClientDashboard dashboard = clientCounterService.getDashboard(1).getBody();
+        assertEquals(new ClientDashboard(1, 4, 3, 7, 1), dashboard);
+        assertEquals(HttpStatus.NOT_FOUND, clientCounterService.getDashboard(2).getStatusCode());
+    }
+}
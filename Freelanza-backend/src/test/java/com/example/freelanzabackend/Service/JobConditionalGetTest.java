@@ -0,0 +1,106 @@
+package com.example.freelanzabackend.Service;
+
+import com.example.freelanzabackend.Dto.JobDetail;
+import com.example.freelanzabackend.EmbeddedPostgresTest;
+import com.example.freelanzabackend.Repository.JobRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+// Conditional GETs on the job page: the ETag combines the job's and its client's @Version, so a
+// change to either answers 200 again. Versions are bumped with plain SQL while the job sits in the
+// second-level cache, the way a write on another node leaves it.
+class JobConditionalGetTest extends EmbeddedPostgresTest {
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registerDatabase(registry, "job_conditional_get");
+    }
+
+    @Autowired
+    private JobService jobService;
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void seed(@Autowired JdbcTemplate jdbc) {
+        jdbc.update("""
+                INSERT INTO client (client_id, name, email, location, ratings, member_since, version, updated_at)
+                VALUES (1, 'Client 1', 'client1@example.com', 'City', 4, current_date, 0, now())
+                """);
+        jdbc.update("""
+                INSERT INTO job (job_id, client_id, job_title, category, min_budget, max_budget, posted_date,
+                                 deadline, status, version, updated_at)
+                SELECT g, 1, 'Job ' || g, 'Development', 100, 200, current_date, current_date + 30, 'ACTIVE', 0, now()
+                FROM generate_series(1, 3) g
+                """);
+    }
+
+    @Test
+    void matchingIfNoneMatchIsAnswered304WithoutABody() {
+        ResponseEntity<JobDetail> first = get(1, null);
+        String etag = first.getHeaders().getETag();
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertEquals(jobRepository.findResourceVersion(1).orElseThrow().getEtag(), etag);
+
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        ResponseEntity<JobDetail> revalidated = get(1, etag, servletResponse);
+        assertEquals(HttpStatus.NOT_MODIFIED, revalidated.getStatusCode());
+        assertNull(revalidated.getBody());
+        assertEquals(etag, servletResponse.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void jobChangeInvalidatesTheEtag() {
+        String etag = get(2, null).getHeaders().getETag();
+
+        jdbcTemplate.update("UPDATE job SET job_title = 'Renamed', version = version + 1, updated_at = now() WHERE job_id = 2");
+        ResponseEntity<JobDetail> changed = get(2, etag);
+
+        assertEquals(HttpStatus.OK, changed.getStatusCode());
+        assertEquals("Renamed", changed.getBody().getJobTitle());
+        assertNotEquals(etag, changed.getHeaders().getETag());
+        assertEquals(HttpStatus.NOT_MODIFIED, get(2, changed.getHeaders().getETag()).getStatusCode());
+    }
+
+    @Test
+    void clientChangeInvalidatesTheEtagOfItsJobs() {
+        String etag = get(3, null).getHeaders().getETag();
+
+        jdbcTemplate.update("UPDATE client SET version = version + 1, updated_at = now() WHERE client_id = 1");
+
+        assertEquals(HttpStatus.OK, get(3, etag).getStatusCode());
+    }
+
+    @Test
+    void unknownJobIs404() {
+        assertEquals(HttpStatus.NOT_FOUND, get(99, "\"0.0\"").getStatusCode());
+    }
+
+    private ResponseEntity<JobDetail> get(int jobId, String ifNoneMatch) {
+        return get(jobId, ifNoneMatch, new MockHttpServletResponse());
+    }
+
+    private ResponseEntity<JobDetail> get(int jobId, String ifNoneMatch, MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jobs/" + jobId);
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return jobService.getJobById(jobId, new ServletWebRequest(request, response));
+    }
+}
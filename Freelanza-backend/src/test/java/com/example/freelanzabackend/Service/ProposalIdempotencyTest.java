@@ -0,0 +1,97 @@
+package com.example.freelanzabackend.Service;
+
+import com.example.freelanzabackend.Dto.ProposalView;
+import com.example.freelanzabackend.EmbeddedPostgresTest;
+import com.example.freelanzabackend.model.Proposal;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+// Each test applies to its own job, so the one-proposal-per-job rule never crosses tests
+class ProposalIdempotencyTest extends EmbeddedPostgresTest {
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registerDatabase(registry, "proposal_idempotency");
+    }
+
+    @Autowired
+    private ProposalService proposalService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void seed(@Autowired JdbcTemplate jdbc) {
+        jdbc.update("""
+                INSERT INTO client (client_id, name, email, location, ratings, member_since,
+                                    total_jobs, active_jobs, pending_proposals, accepted_proposals, version)
+                VALUES (1, 'Client 1', 'client1@example.com', 'City', 4, current_date, 4, 4, 0, 0, 0)
+                """);
+        jdbc.update("""
+                INSERT INTO freelancer (freelancer_id, name, email, location, hourly_rate, version)
+                VALUES (1, 'Freelancer 1', 'freelancer1@example.com', 'City', 50, 0)
+                """);
+        jdbc.update("""
+                INSERT INTO job (job_id, client_id, job_title, category, min_budget, max_budget, posted_date,
+                                 deadline, status, version)
+                SELECT g, 1, 'Job ' || g, 'Development', 100, 200, current_date, current_date + 30, 'ACTIVE', 0
+                FROM generate_series(1, 4) g
+                """);
+    }
+
+    @Test
+    void retryWithTheSameKeyReturnsTheOriginalProposal() {
+        ResponseEntity<ProposalView> first = proposalService.applyProposal(1, 1, proposal(), "key-1");
+        ResponseEntity<ProposalView> retry = proposalService.applyProposal(1, 1, proposal(), "key-1");
+
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertEquals(HttpStatus.OK, retry.getStatusCode());
+        assertEquals(first.getBody().getProposalId(), retry.getBody().getProposalId());
+        assertEquals(1, proposalsOnJob(1));
+    }
+
+    @Test
+    void secondApplicationUnderAnotherKeyIsAConflict() {
+        ResponseEntity<ProposalView> first = proposalService.applyProposal(2, 1, proposal(), "key-2");
+        ResponseEntity<ProposalView> other = proposalService.applyProposal(2, 1, proposal(), "key-other");
+        ResponseEntity<ProposalView> keyless = proposalService.applyProposal(2, 1, proposal(), null);
+
+        assertEquals(HttpStatus.CONFLICT, other.getStatusCode());
+        assertEquals(first.getBody().getProposalId(), other.getBody().getProposalId());
+        assertEquals(HttpStatus.CONFLICT, keyless.getStatusCode());
+        assertEquals(1, proposalsOnJob(2));
+    }
+
+    @Test
+    void sameKeyOnAnotherJobIsANewApplication() {
+        ResponseEntity<ProposalView> onJob3 = proposalService.applyProposal(3, 1, proposal(), "key-3");
+        ResponseEntity<ProposalView> onJob4 = proposalService.applyProposal(4, 1, proposal(), "key-3");
+
+        assertEquals(HttpStatus.OK, onJob4.getStatusCode());
+        assertEquals(4, onJob4.getBody().getJob().getJobId());
+        assertNotEquals(onJob3.getBody().getProposalId(), onJob4.getBody().getProposalId());
+        ResponseEntity<ProposalView> retry = proposalService.applyProposal(3, 1, proposal(), "key-3");
+        assertEquals(HttpStatus.OK, retry.getStatusCode());
+        assertEquals(onJob3.getBody().getProposalId(), retry.getBody().getProposalId());
+    }
+
+    private int proposalsOnJob(int jobId) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM proposal WHERE job_id = ?", Integer.class, jobId);
+    }
+
+    private static Proposal proposal() {
+        Proposal proposal = new Proposal();
+        proposal.setCoverLetter("Cover letter");
+        proposal.setBidAmount(150);
+        proposal.setDeliveryDays(10);
+        return proposal;
+    }
+}
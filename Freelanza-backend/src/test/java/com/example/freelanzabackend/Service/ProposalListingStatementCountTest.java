@@ -0,0 +1,96 @@
+package com.example.freelanzabackend.Service;
+
+import com.example.freelanzabackend.Dto.ProposalView;
+import com.example.freelanzabackend.EmbeddedPostgresTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// The proposal listings are read as projections joining job, client and freelancer, so their cost
+// must not grow with the number of proposals: a lazy association touched per row would show up here
+// as one extra statement per proposal.
+class ProposalListingStatementCountTest extends EmbeddedPostgresTest {
+
+    private static final int MAX_STATEMENTS = 2;
+
+    private static final int JOBS = 4;
+    private static final int FREELANCERS = 5;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registerDatabase(registry, "proposal_listings");
+    }
+
+    @Autowired
+    private ProposalService proposalService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    // Client 1 posts every job and every freelancer applies to each of them
+    @BeforeAll
+    static void seed(@Autowired JdbcTemplate jdbc) {
+        jdbc.update("""
+                INSERT INTO client (client_id, name, email, location, ratings, member_since, version)
+                VALUES (1, 'Client 1', 'client1@example.com', 'City', 4, current_date, 0)
+                """);
+        jdbc.update("""
+                INSERT INTO freelancer (freelancer_id, name, email, location, hourly_rate, bio, version)
+                SELECT g, 'Freelancer ' || g, 'freelancer' || g || '@example.com', 'City', 40, 'Developer', 0
+                FROM generate_series(1, ?) g
+                """, FREELANCERS);
+        jdbc.update("""
+                INSERT INTO job (job_id, client_id, job_title, category, description, min_budget, max_budget,
+                                 budget, posted_date, deadline, status, version)
+                SELECT g, 1, 'Job ' || g, 'Category', 'Description', 100, 1000, 500, current_date,
+                       current_date + 30, 'ACTIVE', 0
+                FROM generate_series(1, ?) g
+                """, JOBS);
+        jdbc.update("""
+                INSERT INTO proposal (proposal_id, job_id, freelancer_id, cover_letter, bid_amount,
+                                      application_date, delivery_days, status, version)
+                SELECT (j - 1) * ? + f, j, f, 'Cover letter', 300, current_date, 10, 'PENDING', 0
+                FROM generate_series(1, ?) j, generate_series(1, ?) f
+                """, FREELANCERS, JOBS, FREELANCERS);
+    }
+
+    @BeforeEach
+    void clearStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void clientListingIsAConstantNumberOfStatements() {
+        ResponseEntity<List<ProposalView>> response = proposalService.getProposalsByClient(1);
+
+        assertNotNull(response.getBody());
+        assertEquals(JOBS * FREELANCERS, response.getBody().size());
+        assertTrue(statistics.getPrepareStatementCount() <= MAX_STATEMENTS,
+                "Client listing prepared " + statistics.getPrepareStatementCount() + " statements");
+    }
+
+    @Test
+    void freelancerListingIsAConstantNumberOfStatements() {
+        List<ProposalView> proposals = proposalService.getProposalsByFreelancer(1);
+
+        assertEquals(JOBS, proposals.size());
+        assertTrue(statistics.getPrepareStatementCount() <= MAX_STATEMENTS,
+                "Freelancer listing prepared " + statistics.getPrepareStatementCount() + " statements");
+    }
+}
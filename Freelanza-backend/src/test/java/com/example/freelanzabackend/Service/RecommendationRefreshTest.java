@@ -0,0 +1,67 @@
+package com.example.freelanzabackend.Service;
+
+import com.example.freelanzabackend.Dto.RecommendedJob;
+import com.example.freelanzabackend.EmbeddedPostgresTest;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Rows are written with plain SQL after the warm-up, standing in for writes made on another node:
+// no save event reaches this node's index, so only the refresh can pick them up.
+class RecommendationRefreshTest extends EmbeddedPostgresTest {
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registerDatabase(registry, "recommendation_refresh");
+    }
+
+    @Autowired
+    private RecommendationService recommendationService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void seed(@Autowired JdbcTemplate jdbc) {
+        jdbc.update("INSERT INTO skill (skill_id, name) VALUES (1, 'Java')");
+        jdbc.update("""
+                INSERT INTO client (client_id, name, email, location, ratings, member_since, version)
+                VALUES (1, 'Client 1', 'client1@example.com', 'City', 4, current_date, 0)
+                """);
+        jdbc.update("""
+                INSERT INTO freelancer (freelancer_id, name, email, location, hourly_rate, version, updated_at)
+                VALUES (1, 'Freelancer 1', 'freelancer1@example.com', 'City', 50, 0, now())
+                """);
+        jdbc.update("INSERT INTO freelancer_skill (freelancer_id, skill_id) VALUES (1, 1)");
+    }
+
+    @Test
+    void refreshPicksUpJobsWrittenElsewhere() {
+        recommendationService.refresh();
+        assertTrue(recommended().isEmpty());
+
+        jdbcTemplate.update("""
+                INSERT INTO job (job_id, client_id, job_title, category, min_budget, max_budget, posted_date,
+                                 deadline, status, version, updated_at)
+                VALUES (1, 1, 'Backend work', 'Development', 40, 60, current_date, current_date + 30, 'ACTIVE', 0, now())
+                """);
+        jdbcTemplate.update("INSERT INTO job_skill (job_id, skill_id) VALUES (1, 1)");
+        recommendationService.refresh();
+        assertEquals(List.of(1), recommended().stream().map(RecommendedJob::getJobId).toList());
+
+        jdbcTemplate.update("UPDATE job SET status = 'EXPIRED', version = version + 1, updated_at = now() WHERE job_id = 1");
+        recommendationService.refresh();
+        assertTrue(recommended().isEmpty());
+    }
+
+    private List<RecommendedJob> recommended() {
+        return recommendationService.getRecommendedJobs(1).getBody();
+    }
+}
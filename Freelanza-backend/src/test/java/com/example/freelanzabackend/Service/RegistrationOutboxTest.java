@@ -0,0 +1,118 @@
+package com.example.freelanzabackend.Service;
+
+import com.example.freelanzabackend.EmbeddedPostgresTest;
+import com.example.freelanzabackend.model.UserCredential;
+import com.example.freelanzabackend.model.UserRole;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Profile creation is made to fail with a check constraint on client names that exists only in this
+// test's database, so failures go through the same rollback and retry path as a real database error.
+// Outbox rows inserted directly use ids far above what the sequence hands out.
+class RegistrationOutboxTest extends EmbeddedPostgresTest {
+
+    private static final String REJECTED_NAME = "Rejected Name";
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registerDatabase(registry, "registration_outbox");
+        registry.add("freelanza.registration.outbox.max-attempts", () -> "3");
+    }
+
+    @Autowired
+    private RegistrationService registrationService;
+    @Autowired
+    private RegistrationOutboxWorker registrationOutboxWorker;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void rejectName(@Autowired JdbcTemplate jdbc) {
+        jdbc.execute("ALTER TABLE client ADD CONSTRAINT test_rejected_name CHECK (name IS DISTINCT FROM '" + REJECTED_NAME + "')");
+    }
+
+    @Test
+    void registrationCreatesTheProfileRightAfterCommit() throws InterruptedException {
+        UserCredential user = new UserCredential();
+        user.setName("New Freelancer");
+        user.setUsername("new.freelancer@example.com");
+        user.setPassword("already-hashed");
+        user.setUserRole(UserRole.FREELANCER);
+        assertTrue(registrationService.register(user));
+
+        // Handed to the registration pool after commit, no sweep involved
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!"DONE".equals(outboxStatus("new.freelancer@example.com")) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertEquals("DONE", outboxStatus("new.freelancer@example.com"));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM freelancer WHERE email = 'new.freelancer@example.com'", Integer.class));
+    }
+
+    @Test
+    void failedAttemptIsRetriedAfterBackoffAndThenDelivered() {
+        queue(100_001, "retry@example.com");
+
+        registrationOutboxWorker.sweep();
+        Map<String, Object> row = outboxRow(100_001);
+        assertEquals("PENDING", row.get("status"));
+        assertEquals(1, row.get("attempts"));
+        assertNotNull(row.get("last_error"));
+        assertTrue((Boolean) row.get("backing_off"));
+
+        // Not due yet: the next sweep leaves it alone
+        registrationOutboxWorker.sweep();
+        assertEquals(1, outboxRow(100_001).get("attempts"));
+
+        // The cause goes away and the backoff elapses
+        jdbcTemplate.update("UPDATE registration_outbox SET name = 'Retried Client', next_attempt_at = now() WHERE id = 100001");
+        registrationOutboxWorker.sweep();
+        row = outboxRow(100_001);
+        assertEquals("DONE", row.get("status"));
+        assertEquals(2, row.get("attempts"));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM client WHERE email = 'retry@example.com'", Integer.class));
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() {
+        queue(100_002, "hopeless@example.com");
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            jdbcTemplate.update("UPDATE registration_outbox SET next_attempt_at = now() WHERE id = 100002");
+            registrationOutboxWorker.sweep();
+        }
+        Map<String, Object> row = outboxRow(100_002);
+        assertEquals("FAILED", row.get("status"));
+        assertEquals(3, row.get("attempts"));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM client WHERE email = 'hopeless@example.com'", Integer.class));
+    }
+
+    private void queue(long id, String username) {
+        jdbcTemplate.update("""
+                INSERT INTO registration_outbox (id, username, name, user_role, status, attempts, next_attempt_at, created_at)
+                VALUES (?, ?, ?, 'CLIENT', 'PENDING', 0, now(), now())
+                """, id, username, REJECTED_NAME);
+    }
+
+    private String outboxStatus(String username) {
+        return jdbcTemplate.queryForObject("SELECT status FROM registration_outbox WHERE username = ?", String.class, username);
+    }
+
+    private Map<String, Object> outboxRow(long id) {
+        return jdbcTemplate.queryForMap(
+                "SELECT status, attempts, last_error, next_attempt_at > now() AS backing_off FROM registration_outbox WHERE id = ?", id);
+    }
+}
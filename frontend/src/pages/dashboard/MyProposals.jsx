@@ -49,6 +49,18 @@ function MyProposals() {
     }
 
     fetchProposals()
+    if (!isFreelancer) return
+
+    // Apply status changes pushed by the server; reload everything if the stream lost track
+    const events = new EventSource(`http://localhost:8080/api/proposals/freelancer/${currentUser.id}/stream`)
+    events.addEventListener('proposal-status', (event) => {
+      const { proposalId, status } = JSON.parse(event.data)
+      setProposals(current => current.map(proposal =>
+        proposal.id === proposalId ? { ...proposal, status: status.toLowerCase() } : proposal
+      ))
+    })
+    events.addEventListener('resync', fetchProposals)
+    return () => events.close()
   }, [isFreelancer, currentUser])
 
   // Filter proposals based on active tab
@@ -28,9 +28,15 @@ function Proposals() {
       }
     }
 
-    if (isClient) {
-      fetchProposals()
-    }
+    if (!isClient) return
+
+    fetchProposals()
+
+    // Reload when a freelancer applies to one of our jobs instead of polling
+    const events = new EventSource(`http://localhost:8080/api/proposals/client/${currentUser.id}/stream`)
+    events.addEventListener('proposal-created', fetchProposals)
+    events.addEventListener('resync', fetchProposals)
+    return () => events.close()
   }, [isClient, currentUser])
 
   // Filter proposals based on selected job
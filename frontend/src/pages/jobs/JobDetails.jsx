@@ -12,6 +12,8 @@ function JobDetails() {
   const [isLoading, setIsLoading] = useState(true)
   const [error, setError] = useState(null)
   const [showApplyModal, setShowApplyModal] = useState(false)
+  // One key per opened apply form, so double-clicks and retries do not create duplicate proposals
+  const [applyKey, setApplyKey] = useState(null)
   
   // // Mock job data
   // const mockJob = {
@@ -100,7 +102,8 @@ function JobDetails() {
       // Make API call to submit proposal
       const response = await axios.post(
         `http://localhost:8080/api/proposals/apply/${jobId}/${currentUser.id}`, 
-        proposalData
+        proposalData,
+        { headers: { 'Idempotency-Key': applyKey } }
       )
 
       // Handle successful submission
@@ -108,6 +111,12 @@ function JobDetails() {
       setShowApplyModal(false)
       navigate('/dashboard/my-proposals')
     } catch (err) {
+      if (err.response?.status === 409) {
+        alert('You have already applied to this job.')
+        setShowApplyModal(false)
+        navigate('/dashboard/my-proposals')
+        return
+      }
       console.error('Error submitting proposal:', err)
       alert('Failed to submit proposal. Please try again.')
     }
@@ -130,6 +139,7 @@ function JobDetails() {
       bidAmount: '',
       deliveryDays: ''
     })
+    setApplyKey(crypto.randomUUID())
     setShowApplyModal(true)
   }
 